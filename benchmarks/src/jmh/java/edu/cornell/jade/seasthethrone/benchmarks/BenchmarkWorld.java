@@ -0,0 +1,56 @@
+package edu.cornell.jade.seasthethrone.benchmarks;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import edu.cornell.jade.seasthethrone.audio.SoundPlayer;
+import edu.cornell.jade.seasthethrone.bpedit.BulletPools;
+import edu.cornell.jade.seasthethrone.gamemodel.BulletModel;
+import edu.cornell.jade.seasthethrone.headless.StubGL;
+import edu.cornell.jade.seasthethrone.physics.PhysicsEngine;
+
+/**
+ * Sets up the parts of the game benchmarks need, without a window, GPU or audio.
+ *
+ * <p>Natives are loaded and a do-nothing GL is installed, so bullets can be given textures. Worlds
+ * are empty squares of {@link #SIZE} units with no gravity, like a level.
+ */
+public final class BenchmarkWorld {
+  /** Length of a tick in seconds */
+  public static final float DELTA = 1 / 60f;
+
+  /** Width and height of the world */
+  public static final float SIZE = 400f;
+
+  /** Distance from the player bullets are removed at, the same as attack patterns use */
+  public static final float RENDER_DISTANCE = 100f;
+
+  private BenchmarkWorld() {}
+
+  /** Loads natives and installs a stub GL. Safe to call more than once. */
+  public static void init() {
+    GdxNativesLoader.load();
+    if (Gdx.gl == null) Gdx.gl = Gdx.gl20 = StubGL.create();
+  }
+
+  /** Returns a physics engine over an empty world. */
+  public static PhysicsEngine newPhysicsEngine() {
+    init();
+    World world = new World(new Vector2(0, 0), false);
+    return new PhysicsEngine(
+        new Rectangle(0, 0, SIZE, SIZE), world, new SoundPlayer(), new BulletPools());
+  }
+
+  /** Returns a builder for enemy bullets with placeholder textures. */
+  public static BulletModel.Builder newBulletBuilder() {
+    init();
+    TextureRegion texture = new TextureRegion(new Texture(new Pixmap(8, 8, Format.RGBA8888)));
+    return BulletModel.Builder.newInstance().setBaseTexture(texture).setUnbreakableTexture(texture);
+  }
+}
@@ -0,0 +1,106 @@
+package edu.cornell.jade.seasthethrone.benchmarks;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.Array;
+import edu.cornell.jade.seasthethrone.gamemodel.BulletModel;
+import edu.cornell.jade.seasthethrone.gamemodel.BulletModelPool;
+import edu.cornell.jade.seasthethrone.physics.PhysicsEngine;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures one step of the {@link PhysicsEngine} with a fixed number of live enemy bullets.
+ *
+ * <p>Bullets are scattered around the middle of the world with random velocities. Every step,
+ * <code>churn</code> bullets are removed and the bullets removed the step before are added back,
+ * so removal and activation are measured along with integration and the bullet grid.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PhysicsEngineBenchmark {
+  /** Fastest a bullet moves, in units per second */
+  private static final float MAX_SPEED = 5f;
+
+  /** Number of live bullets */
+  @Param({"100", "1000", "5000"})
+  public int bulletCount;
+
+  /** Number of bullets removed and re-added every step */
+  @Param({"0", "10"})
+  public int churn;
+
+  private PhysicsEngine physicsEngine;
+
+  private RandomXS128 random;
+
+  /** Every bullet in the benchmark */
+  private Array<BulletModel> bullets;
+
+  /** Bullets removed in the previous step, added back in the next */
+  private Array<BulletModel> removed;
+
+  /** The next bullet to remove */
+  private int cursor;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    physicsEngine = BenchmarkWorld.newPhysicsEngine();
+    BulletModel.Builder builder = BenchmarkWorld.newBulletBuilder();
+    BulletModelPool pool = new BulletModelPool(bulletCount, bulletCount);
+    random = new RandomXS128(0);
+    bullets = new Array<>(bulletCount);
+    removed = new Array<>(churn);
+    for (int i = 0; i < bulletCount; i++) {
+      BulletModel b = BulletModel.construct(builder.setRadius(0.5f), pool);
+      place(b);
+      physicsEngine.addObject(b);
+      bullets.add(b);
+    }
+  }
+
+  /** Moves every bullet back near the middle, so bullets never drift out of the world */
+  @Setup(Level.Iteration)
+  public void recenter() {
+    for (BulletModel b : bullets) {
+      if (!b.isRemoved()) place(b);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    physicsEngine.dispose();
+    physicsEngine.getWorld().dispose();
+  }
+
+  @Benchmark
+  public void update() {
+    for (BulletModel b : removed) {
+      b.markRemoved(false);
+      place(b);
+      physicsEngine.addObject(b);
+    }
+    removed.clear();
+    for (int i = 0; i < churn; i++) {
+      BulletModel b = bullets.get(cursor);
+      cursor = (cursor + 1) % bullets.size;
+      b.markRemoved(true);
+      removed.add(b);
+    }
+    physicsEngine.update(BenchmarkWorld.DELTA);
+  }
+
+  /** Gives a bullet a random position in the middle of the world and a random velocity */
+  private void place(BulletModel b) {
+    float quarter = BenchmarkWorld.SIZE / 4;
+    b.setPosition(quarter + random.nextFloat() * 2 * quarter, quarter + random.nextFloat() * 2 * quarter);
+    float theta = random.nextFloat() * MathUtils.PI2;
+    float speed = random.nextFloat() * MAX_SPEED;
+    b.setVX(speed * MathUtils.cos(theta));
+    b.setVY(speed * MathUtils.sin(theta));
+  }
+}
@@ -0,0 +1,84 @@
+package edu.cornell.jade.seasthethrone.benchmarks;
+
+import edu.cornell.jade.seasthethrone.util.PooledList;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures iterating over and removing from a {@link PooledList}, the way the physics engine
+ * walks and prunes its objects.
+ *
+ * <p>The removal benchmarks remove every tenth element and add the removed elements back at the
+ * tail, so the list keeps its size across invocations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PooledListBenchmark {
+  /** Every how many elements one is removed */
+  private static final int REMOVE_STRIDE = 10;
+
+  /** Number of elements in the list */
+  @Param({"100", "1000", "10000"})
+  public int size;
+
+  private PooledList<Integer> list;
+
+  /** The entry of every element, indexed by the element */
+  private PooledList<Integer>.Entry[] entries;
+
+  /** Cache of removed elements to add back */
+  private Integer[] removed;
+
+  @Setup(Level.Trial)
+  @SuppressWarnings("unchecked")
+  public void setup() {
+    list = new PooledList<>();
+    entries = (PooledList<Integer>.Entry[]) new PooledList.Entry[size];
+    removed = new Integer[size / REMOVE_STRIDE + 1];
+    for (int i = 0; i < size; i++) {
+      entries[i] = list.addEntry(i);
+    }
+  }
+
+  @Benchmark
+  public void iterate(Blackhole bh) {
+    for (Integer v : list) {
+      bh.consume(v);
+    }
+  }
+
+  @Benchmark
+  public void iteratorRemove() {
+    int n = 0;
+    int i = 0;
+    Iterator<Integer> it = list.iterator();
+    while (it.hasNext()) {
+      Integer v = it.next();
+      if (i++ % REMOVE_STRIDE == 0) {
+        it.remove();
+        removed[n++] = v;
+      }
+    }
+    for (int j = 0; j < n; j++) {
+      entries[removed[j]] = list.addEntry(removed[j]);
+    }
+  }
+
+  @Benchmark
+  public void entryRemove() {
+    int n = 0;
+    for (int i = 0; i < size; i += REMOVE_STRIDE) {
+      entries[i].remove();
+      removed[n++] = i;
+    }
+    for (int j = 0; j < n; j++) {
+      entries[removed[j]] = list.addEntry(removed[j]);
+    }
+  }
+}
@@ -0,0 +1,101 @@
+package edu.cornell.jade.seasthethrone.bpedit.patterns;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import edu.cornell.jade.seasthethrone.benchmarks.BenchmarkWorld;
+import edu.cornell.jade.seasthethrone.bpedit.BulletFamilyPool;
+import edu.cornell.jade.seasthethrone.bpedit.Spawner;
+import edu.cornell.jade.seasthethrone.bpedit.Spawner.BulletFamily;
+import edu.cornell.jade.seasthethrone.bpedit.Spawner.Effect;
+import edu.cornell.jade.seasthethrone.gamemodel.BulletModel;
+import edu.cornell.jade.seasthethrone.gamemodel.BulletModelPool;
+import edu.cornell.jade.seasthethrone.physics.PhysicsEngine;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures applying a single {@link Effect} to a batch of bullet families, the way a
+ * <code>Spawner</code> expands families which could not be compiled into a schedule.
+ *
+ * <p>Each invocation clones the families from the pool, applies the effect and frees every family
+ * again, so pool traffic is part of the measurement. This lives in the effects' package since the
+ * effects are package-private. <code>PlaysAttackAnimation</code> only forwards to the boss model
+ * and is not measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EffectsBenchmark {
+  /** Number of bullets an arc creates from each family */
+  private static final int ARC_DUPS = 16;
+
+  /** The effect to apply */
+  @Param({"arc", "periodic", "randomSpray", "targetsModel"})
+  public String effect;
+
+  /** Number of families the effect is applied to at once */
+  @Param({"1", "16"})
+  public int familyCount;
+
+  private Effect applied;
+
+  private BulletFamily root;
+
+  private BulletFamilyPool familyPool;
+
+  private BulletModelPool modelPool;
+
+  /** The families the effect is applied to */
+  private Array<BulletFamily> families;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    PhysicsEngine physicsEngine = BenchmarkWorld.newPhysicsEngine();
+    BulletModel.Builder builder = BenchmarkWorld.newBulletBuilder();
+    familyPool = new BulletFamilyPool(64, 1024);
+    modelPool = new BulletModelPool(1, 1);
+    families = new Array<>();
+    root = new BulletFamily(1f, 0f, 8f, 0f, 0.5f, 0);
+
+    switch (effect) {
+      case "arc":
+        applied = new Arc(0, MathUtils.PI * 2, ARC_DUPS);
+        break;
+      case "periodic":
+        applied = new Periodic(10);
+        break;
+      case "randomSpray":
+        applied = new RandomSpray(MathUtils.PI / 2);
+        break;
+      case "targetsModel":
+        Spawner spawner =
+            new Spawner(
+                BenchmarkWorld.SIZE / 2,
+                BenchmarkWorld.SIZE / 2,
+                builder,
+                physicsEngine,
+                familyPool,
+                modelPool);
+        BulletModel target = builder.setX(BenchmarkWorld.SIZE / 3).setY(BenchmarkWorld.SIZE / 3).build();
+        applied = new TargetsModel(spawner, target);
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown effect: " + effect);
+    }
+  }
+
+  @Benchmark
+  public void apply(Blackhole bh) {
+    for (int i = 0; i < familyCount; i++) {
+      families.add(root.clone(familyPool));
+    }
+    applied.apply(families, familyPool, modelPool);
+    bh.consume(families.size);
+    familyPool.freeAll(families);
+    families.clear();
+  }
+}
@@ -0,0 +1,132 @@
+package edu.cornell.jade.seasthethrone.bpedit.patterns;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import edu.cornell.jade.seasthethrone.benchmarks.BenchmarkWorld;
+import edu.cornell.jade.seasthethrone.bpedit.BulletPools;
+import edu.cornell.jade.seasthethrone.bpedit.Spawner;
+import edu.cornell.jade.seasthethrone.bpedit.Spawner.BulletFamily;
+import edu.cornell.jade.seasthethrone.gamemodel.BulletModel;
+import edu.cornell.jade.seasthethrone.physics.PhysicsEngine;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures {@link Spawner}s firing a pattern continuously, once the number of live bullets has
+ * settled.
+ *
+ * <p>Every scene is stepped the way an attack pattern and the gameplay loop step it: update each
+ * spawner, remove bullets far from the player, then step the physics engine. {@link #tick} measures
+ * all of it. A tick takes microseconds, too little to time one part of it with per-invocation setup,
+ * so the parts are not measured on their own.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpawnerBenchmark {
+  /** Ticks between volleys */
+  private static final int PERIOD = 10;
+
+  /** Speed of the bullets in a ring */
+  private static final float SPEED = 20f;
+
+  /** Ticks simulated before measuring, long enough for the first volley to be removed */
+  private static final int WARM_TICKS = 600;
+
+  /** A player in the middle of the world, surrounded by spawners */
+  @State(Scope.Thread)
+  public static class Scene {
+    /**
+     * The pattern fired. A ring and a tracking arc are compiled into spawn schedules; an aimed arc
+     * targets the player, so it goes through the family heap instead.
+     */
+    @Param({"ring", "trackingArc", "aimedArc"})
+    public String pattern;
+
+    /** Number of bullets in a volley */
+    @Param({"8", "32"})
+    public int bulletCount;
+
+    /** Number of spawners firing */
+    @Param({"1", "4"})
+    public int spawnerCount;
+
+    PhysicsEngine physicsEngine;
+
+    Array<Spawner> spawners;
+
+    /** Position of the player */
+    float px, py;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      physicsEngine = BenchmarkWorld.newPhysicsEngine();
+      BulletModel.Builder builder = BenchmarkWorld.newBulletBuilder();
+      px = BenchmarkWorld.SIZE / 2;
+      py = BenchmarkWorld.SIZE / 2;
+      BulletModel player = builder.setX(px).setY(py).build();
+
+      spawners = new Array<>(spawnerCount);
+      for (int i = 0; i < spawnerCount; i++) {
+        Spawner s = newSpawner(builder, player);
+        float theta = i * MathUtils.PI2 / spawnerCount;
+        s.moveSpawner(px + 10 * MathUtils.cos(theta), py + 10 * MathUtils.sin(theta));
+        spawners.add(s);
+      }
+      physicsEngine.getBulletPools().prewarm();
+
+      for (int i = 0; i < WARM_TICKS; i++) {
+        updateSpawners();
+        removeFar();
+        physicsEngine.update(BenchmarkWorld.DELTA);
+      }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+      physicsEngine.dispose();
+      physicsEngine.getWorld().dispose();
+    }
+
+    /** Returns a spawner firing the pattern of this scene */
+    private Spawner newSpawner(BulletModel.Builder builder, BulletModel player) {
+      switch (pattern) {
+        case "ring":
+          return SpawnerFactory.constructRepeatingRing(bulletCount, PERIOD, SPEED, builder, physicsEngine);
+        case "trackingArc":
+          return SpawnerFactory.constructRepeatingDelayedTrackingArc(
+              bulletCount, MathUtils.PI / 2, 0, PERIOD, 30, builder, physicsEngine);
+        case "aimedArc":
+          // constructRepeatingAimedArc, without the boss attack animation
+          BulletPools pools = physicsEngine.getBulletPools();
+          Spawner out = new Spawner(builder, physicsEngine, pools.getFamilyPool(), pools.getModelPool());
+          pools.track(out);
+          BulletFamily f = new BulletFamily(0f, 0f, 8f, 0f, 0.5f, 0);
+          f.addEffect(new Periodic(PERIOD));
+          f.addEffect(new TargetsModel(out, player));
+          f.addEffect(new Arc(-MathUtils.PI / 6f, MathUtils.PI / 3f, bulletCount));
+          out.addFamily(f);
+          return out;
+        default:
+          throw new IllegalArgumentException("Unknown pattern: " + pattern);
+      }
+    }
+
+    void updateSpawners() {
+      for (Spawner s : spawners) s.update(px, py);
+    }
+
+    void removeFar() {
+      for (Spawner s : spawners) s.removeFarFrom(px, py, BenchmarkWorld.RENDER_DISTANCE);
+    }
+  }
+
+  @Benchmark
+  public void tick(Scene scene) {
+    scene.updateSpawners();
+    scene.removeFar();
+    scene.physicsEngine.update(BenchmarkWorld.DELTA);
+  }
+}
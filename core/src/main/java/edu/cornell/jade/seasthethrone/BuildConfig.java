@@ -4,4 +4,7 @@ package edu.cornell.jade.seasthethrone;
 public class BuildConfig {
   /** If the code should be build with debug information. */
   public static final boolean DEBUG = false;
+
+  /** If enemy bullets should be simulated by the {@link edu.cornell.jade.seasthethrone.physics.BulletEngine} instead of Box2D. */
+  public static final boolean DATA_ORIENTED_BULLETS = false;
 }
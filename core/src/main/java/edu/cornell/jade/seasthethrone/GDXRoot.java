@@ -1,8 +1,11 @@
 package edu.cornell.jade.seasthethrone;
 
 import com.badlogic.gdx.Game;
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.utils.viewport.FitViewport;
+import edu.cornell.jade.seasthethrone.level.TileIndex;
+import edu.cornell.jade.seasthethrone.render.FontCache;
 import edu.cornell.jade.seasthethrone.render.GameCanvas;
 import edu.cornell.jade.seasthethrone.util.ScreenListener;
 import edu.cornell.jade.seasthethrone.assets.AssetDirectory;
@@ -64,6 +67,13 @@ public class GDXRoot extends Game implements ScreenListener {
     setScreen(loading);
   }
 
+  @Override
+  public void render() {
+    super.render();
+    // Music fades whichever screen is showing
+    soundPlayer.update(Gdx.graphics.getDeltaTime());
+  }
+
   @Override
   public void dispose() {
     setScreen(null);
@@ -76,6 +86,8 @@ public class GDXRoot extends Game implements ScreenListener {
       directory = null;
     }
     options.dispose();
+    FontCache.dispose();
+    TileIndex.disposeShader();
     super.dispose();
   }
 
@@ -147,6 +159,7 @@ public class GDXRoot extends Game implements ScreenListener {
     // game to hub world
     if (screen == controller && exitCode == EXIT_SWAP) {
       loading.resetWithExitCode(EXIT_SWAP);
+      loading.setPreparation(controller::prepareLevelChange);
       loading.setScreenListener(this);
       setScreen(loading);
     }
@@ -1,16 +1,18 @@
 package edu.cornell.jade.seasthethrone;
 
 import com.badlogic.gdx.Screen;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.physics.box2d.*;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.JsonValue;
 import com.badlogic.gdx.utils.viewport.*;
 
 import edu.cornell.jade.seasthethrone.ai.BossController;
 import edu.cornell.jade.seasthethrone.assets.AssetDirectory;
+import edu.cornell.jade.seasthethrone.assets.TextureCache;
 import edu.cornell.jade.seasthethrone.audio.SoundPlayer;
 import edu.cornell.jade.seasthethrone.gamemodel.*;
 import edu.cornell.jade.seasthethrone.gamemodel.boss.BossModel;
@@ -19,18 +21,25 @@ import edu.cornell.jade.seasthethrone.gamemodel.gate.GateWallModel;
 import edu.cornell.jade.seasthethrone.gamemodel.player.PlayerModel;
 import edu.cornell.jade.seasthethrone.input.InputController;
 import edu.cornell.jade.seasthethrone.bpedit.AttackPattern;
+import edu.cornell.jade.seasthethrone.bpedit.BulletPools;
 import edu.cornell.jade.seasthethrone.level.*;
 import edu.cornell.jade.seasthethrone.model.Model;
 import edu.cornell.jade.seasthethrone.model.PolygonModel;
 import edu.cornell.jade.seasthethrone.physics.PhysicsEngine;
 import edu.cornell.jade.seasthethrone.render.Credits;
+import edu.cornell.jade.seasthethrone.render.DepthOrder;
+import edu.cornell.jade.seasthethrone.render.RenderSnapshot;
 import edu.cornell.jade.seasthethrone.render.Renderable;
 import edu.cornell.jade.seasthethrone.render.RenderingEngine;
+import edu.cornell.jade.seasthethrone.render.SpriteAtlas;
 import edu.cornell.jade.seasthethrone.ui.*;
 import edu.cornell.jade.seasthethrone.util.ScreenListener;
+import edu.cornell.jade.seasthethrone.util.Workers;
 
-import java.util.Comparator;
 import java.util.HashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 /**
  * The primary controller class for the game.
@@ -86,6 +95,15 @@ public class GameplayController implements Screen {
   /** Rendering Engine */
   RenderingEngine renderEngine;
 
+  /** Atlas of the player, bullet and boss sprites, packed as they are first loaded */
+  private final SpriteAtlas atlas;
+
+  /** Shared textures of the objects placed in levels */
+  private TextureCache textureCache;
+
+  /** The textures held by the current scene, or null before the first scene */
+  private TextureCache.Lease sceneTextures;
+
   /** Controller for keeping track of bullet patterns */
   protected AttackPattern bulletController;
 
@@ -107,6 +125,12 @@ public class GameplayController implements Screen {
   /** Map of previously loaded levels */
   private HashMap<String, Level> loadedLevels;
 
+  /** Loads the levels the portals of the current level lead to in the background */
+  private final LevelPrefetcher prefetcher;
+
+  /** Bullet pools of every previously loaded level */
+  private HashMap<String, BulletPools> bulletPools;
+
   /** If the player has entered a portal and the level should be changed */
   private boolean changeLevelFlag;
 
@@ -137,11 +161,11 @@ public class GameplayController implements Screen {
   /** If level select was clicked in the pause menu */
   private boolean options;
 
-  /** Temporary cache to sort physics renderables */
-  private final Array<Model> objectCache = new Array<>();
+  /** Temporary cache of the bullets to draw */
+  private final Array<BulletModel> bulletCache = new Array<>();
 
-  /** Comparator to sort Models by height */
-  private final HeightComparator comp = new HeightComparator();
+  /** Physics renderables other than bullets, ordered by height across frames */
+  private final DepthOrder<Renderable> depthOrder = new DepthOrder<>();
 
   /** Temporary cache used by updateCamera */
   private final Vector2 updateCameraCache = new Vector2();
@@ -155,9 +179,30 @@ public class GameplayController implements Screen {
   /** Timer to prevent saving multiple frames in a row */
   private int saveTimer;
 
-  /** Minimum number of frames between saves */
+  /** Minimum number of steps between saves */
   private final int SAVE_DELAY = 30;
 
+  /** Length of a simulation step in seconds */
+  public static final float TIMESTEP = 1 / 60f;
+
+  /** Most simulation steps run in one frame, so a slow frame cannot snowball */
+  private static final int MAX_SUBSTEPS = 5;
+
+  /** Frame time not yet simulated, in seconds */
+  private float accumulator;
+
+  /** Runs the steps of each frame off the GL thread */
+  private final ExecutorService simulation;
+
+  /** The steps currently being simulated, or null if the simulation thread is idle */
+  private Future<?> pending;
+
+  /** The last captured frame of the world, being drawn */
+  private RenderSnapshot frontSnapshot;
+
+  /** The frame of the world being captured by the simulation thread */
+  private RenderSnapshot backSnapshot;
+
   /** fish bullet builder */
   BulletModel.Builder fishBulletBuilder;
 
@@ -181,6 +226,8 @@ public class GameplayController implements Screen {
     this.assets = assets;
 
     loadedLevels = new HashMap<>();
+    prefetcher = new LevelPrefetcher();
+    bulletPools = new HashMap<>();
     this.level = new Level("levels/hub_world.json");
     loadedLevels.put(level.name, level);
 
@@ -201,6 +248,10 @@ public class GameplayController implements Screen {
     saveTimer = 0;
     credits = new Credits(uiViewport);
 
+    simulation = Workers.newSingleThread("simulation");
+    frontSnapshot = new RenderSnapshot();
+    backSnapshot = new RenderSnapshot();
+
     this.stateController = new StateController();
     stateController.setCurrentLevel(level.name);
     stateController.setRespawnLevel(level.name);
@@ -213,6 +264,8 @@ public class GameplayController implements Screen {
     inputController.add(interactController);
     inputController.add(interactController.getDialogueController());
     this.renderEngine = new RenderingEngine(worldWidth, worldHeight, viewport, worldScale);
+    this.atlas = new SpriteAtlas();
+    this.textureCache = new TextureCache(assets);
 
     // Load UI
     PauseMenu pauseMenu = new PauseMenu(viewport);
@@ -237,20 +290,171 @@ public class GameplayController implements Screen {
     active = true;
   }
 
+  /**
+   * Constructs the player, loading all of its textures.
+   *
+   * @param x x coordinate of the player
+   * @param y y coordinate of the player
+   * @param soundPlayer player for sound effects
+   * @param atlas the atlas to load the player's textures from
+   * @return the player model
+   */
+  public static PlayerModel createPlayer(
+      float x, float y, SoundPlayer soundPlayer, SpriteAtlas atlas) {
+    return PlayerModel.Builder.newInstance()
+        .setX(x)
+        .setY(y)
+        .setTextureNEDash(atlas.get("player/player_dash_ne.png"))
+        .setTextureNWDash(atlas.get("player/player_dash_nw.png"))
+        .setTextureSWDash(atlas.get("player/player_dash_sw.png"))
+        .setTextureSEDash(atlas.get("player/player_dash_se.png"))
+        .setTextureUp(atlas.get("player/player_run_up.png"))
+        .setTextureDown(atlas.get("player/player_run_down.png"))
+        .setTextureLeft(atlas.get("player/player_run_left.png"))
+        .setTextureRight(atlas.get("player/player_run_right.png"))
+        .setTextureUpDash(atlas.get("player/player_dash_up.png"))
+        .setTextureDownDash(atlas.get("player/player_dash_down.png"))
+        .setTextureLeftDash(atlas.get("player/player_dash_left.png"))
+        .setTextureRightDash(atlas.get("player/player_dash_right.png"))
+        .setDashIndicatorTexture(atlas.get("player/dash_indicator.png"))
+        .setIdleLeft(atlas.get("player/player_idle_left.png"))
+        .setIdleRight(atlas.get("player/player_idle_right.png"))
+        .setIdleUp(atlas.get("player/player_idle_up.png"))
+        .setIdleDown(atlas.get("player/player_idle_down.png"))
+        .setShootDown(atlas.get("player/player_shoot_down.png"))
+        .setShootUp(atlas.get("player/player_shoot_up.png"))
+        .setShootLeft(atlas.get("player/player_shoot_left.png"))
+        .setShootRight(atlas.get("player/player_shoot_right.png"))
+        .setDeathUp(atlas.get("player/player_death_up.png"))
+        .setDeathDown(atlas.get("player/player_death_down.png"))
+        .setDeathLeft(atlas.get("player/player_death_left.png"))
+        .setDeathRight(atlas.get("player/player_death_right.png"))
+        .setEmpty(atlas.get("player/emptyfilmstrip.png"))
+        .setFramesInAnimation(12)
+        .setFramesInAnimationDash(5)
+        .setFramesInAnimationDashDiagonal(5)
+        .setFramesInAnimationShoot(5)
+        .setFramesInAnimationDeath(16)
+        .setFrameDelay(3)
+        .setDashLength(20)
+        .setMoveSpeed(12f)
+        .setCooldownLimit(10)
+        .setShootCooldownLimit(20)
+        .setSoundPlayer(soundPlayer)
+        .build();
+  }
+
+  /**
+   * Returns a builder for the bullets fired by bosses, with its textures loaded
+   *
+   * @param atlas the atlas to load the bullet textures from
+   */
+  public static BulletModel.Builder createFishBulletBuilder(SpriteAtlas atlas) {
+    return BulletModel.Builder.newInstance()
+        .setBaseTexture(atlas.get("bullet/whitefish.png"))
+        .setUnbreakableTexture(atlas.get("bullet/urchinbullet.png"));
+  }
+
+  /**
+   * Returns the name of the assets of a boss placed in a level.
+   *
+   * @param name the boss name from the level, such as "fixed_clam45"
+   * @return the asset name, such as "clam"
+   */
+  public static String bossAssetName(String name) {
+    // FIXME: this literly only works because we are dumb it's stupid hack but
+    // whatever, should work, no less cursed than what we already have actually
+    // despise what I'm about to write, no one do this
+    //
+    // okay, so I'm just going to do some ad-hoc string parsing stuff here
+    // a more systematic solution would require more overhall to this structure
+    // which I would do if this were not a project with a due date in 2 weeks
+
+    // jellys are identified by containing the string jelly. They have ad-hoc names determining
+    // patterns.
+    // See the buildController method for the case statement defining the behavior.
+    //
+    // clams are similar, but they have a number suffixed determining their angle
+    // this number is in degrees
+    String[] splitName = name.replaceAll("[^a-zA-Z_]", "").split("_");
+    // Assuming that names are going to be of the format "_..._(boss)"
+    return splitName[splitName.length - 1];
+  }
+
+  /**
+   * Returns a builder for a boss with its stats and animations loaded. The position and room of the
+   * boss still need to be set.
+   *
+   * @param name the boss name from the level
+   * @param bossInfo the boss's stats JSON
+   * @param atlas the atlas to load the boss's animations from
+   * @return the boss builder
+   */
+  public static BossModel.Builder createBossBuilder(
+      String name, JsonValue bossInfo, SpriteAtlas atlas) {
+    String assetName = bossAssetName(name);
+    var bossBuilder =
+        BossModel.Builder.newInstance()
+            .setType(name)
+            .setFrameSize(bossInfo.getInt("frame_size", 0))
+            .setHealth(bossInfo.getInt("health", 0))
+            .setHealthThresholds(bossInfo.get("thresholds").asIntArray())
+            .setHitbox(bossInfo.get("hitbox").asFloatArray())
+            .setScale(bossInfo.getFloat("scale", 1))
+            .setFalloverAnimation(atlas.get("bosses/" + assetName + "/fallover.png"))
+            .setShootAnimation(atlas.get("bosses/" + assetName + "/shoot.png"))
+            .setGetHitAnimation(atlas.get("bosses/" + assetName + "/hurt.png"))
+            .setDeathAnimation(atlas.get("bosses/" + assetName + "/death.png"))
+            .setAttackAnimation(atlas.get("bosses/" + assetName + "/attack.png"))
+            .setIdleAnimation(atlas.get("bosses/" + assetName + "/idle.png"))
+            .setFrameDelay(12);
+    if (name.contains("swordfish")) {
+      bossBuilder
+          .setShootDownAnimation(atlas.get("bosses/" + assetName + "/shoot_vertical.png"))
+          .setShootUpAnimation(atlas.get("bosses/" + assetName + "/shoot_vertical_up.png"))
+          .setShootRightAnimation(atlas.get("bosses/" + assetName + "/shoot_side_right.png"))
+          .setAttackDownAnimation(atlas.get("bosses/" + assetName + "/attack_vertical.png"))
+          .setAttackUpAnimation(atlas.get("bosses/" + assetName + "/attack_vertical_up.png"))
+          .setAttackRightAnimation(atlas.get("bosses/" + assetName + "/attack_side_right.png"))
+          .setGetHitDownAnimation(atlas.get("bosses/" + assetName + "/front_hurt.png"))
+          .setGetHitUpAnimation(atlas.get("bosses/" + assetName + "/up_hurt.png"))
+          .setGetHitRightAnimation(atlas.get("bosses/" + assetName + "/right_hurt.png"));
+    }
+    if (name.contains("final")) {
+      bossBuilder
+          .setTransformAnimation(atlas.get("bosses/" + assetName + "/transform.png"))
+          .setFinalAttackAnimation(atlas.get("bosses/" + assetName + "/final_attack.png"))
+          .setFinalShootAnimation(atlas.get("bosses/" + assetName + "/final_shoot.png"))
+          .setFinalGetHitAnimation(atlas.get("bosses/" + assetName + "/final_hurt.png"))
+          .setCatchBreathAnimation(atlas.get("bosses/" + assetName + "/catch_breath.png"))
+          .setTerminatedAnimation(atlas.get("bosses/" + assetName + "/terminated.png"));
+    }
+    if (name.contains("crab")) {
+      bossBuilder.setTerminatedAnimation(atlas.get("bosses/" + assetName + "/terminated.png"));
+    }
+    if (name.contains("shark")) {
+      bossBuilder
+          .setGetHitUpAnimation(atlas.get("bosses/" + assetName + "/up_hurt.png"))
+          .setIdleUpAnimation(atlas.get("bosses/" + assetName + "/up_idle.png"));
+    }
+    return bossBuilder;
+  }
+
   public void setupGameplay() {
-    dispose();
+    clearLevel();
+    // The camera has not followed the new player yet, so the first frame is captured whole
+    renderEngine.clearCullBounds();
+    // The last scene lets go of its textures only once the new one holds its own, so textures
+    // both use stay loaded
+    TextureCache.Lease lastTextures = sceneTextures;
+    sceneTextures = textureCache.lease();
 
     // Load player
     // TODO: make this come from the information JSON
     Vector2 playerLoc;
     if (restart && stateController.hasRespawnLoc()) {
       String levelName = stateController.getRespawnLevel();
-      if (loadedLevels.containsKey(levelName)) {
-        level = loadedLevels.get(levelName);
-      } else {
-        level = new Level(levelName);
-        loadedLevels.put(level.name, level);
-      }
+      level = prefetcher.obtain(levelName, loadedLevels);
       playerLoc = stateController.getRespawnLoc();
     } else if (physicsEngine != null && physicsEngine.getSpawnPoint() != null) {
       playerLoc = level.tiledToWorldCoords(physicsEngine.getSpawnPoint());
@@ -258,9 +462,17 @@ public class GameplayController implements Screen {
       playerLoc = level.getPlayerLoc();
     }
 
+    // Bullet pools are kept per level and measured again as the bosses are built
+    BulletPools pools = bulletPools.get(level.name);
+    if (pools == null) {
+      pools = new BulletPools();
+      bulletPools.put(level.name, pools);
+    }
+    pools.beginLevel();
+
     // Initialize physics engine
     World world = new World(new Vector2(0, 0), false);
-    physicsEngine = new PhysicsEngine(bounds, world, soundPlayer);
+    physicsEngine = new PhysicsEngine(bounds, world, soundPlayer, pools);
 
     gameState = GameState.PLAY;
 
@@ -270,56 +482,13 @@ public class GameplayController implements Screen {
     renderEngine.addRenderable(level.getBackground());
 
     // Load tiles
-    for (Tile tile : level.getTiles()) {
-      renderEngine.addRenderable(tile);
-    }
-
-    PlayerModel player =
-        PlayerModel.Builder.newInstance()
-            .setX(playerLoc.x)
-            .setY(playerLoc.y)
-            .setTextureNEDash(new Texture("player/player_dash_ne.png"))
-            .setTextureNWDash(new Texture("player/player_dash_nw.png"))
-            .setTextureSWDash(new Texture("player/player_dash_sw.png"))
-            .setTextureSEDash(new Texture("player/player_dash_se.png"))
-            .setTextureUp(new Texture("player/player_run_up.png"))
-            .setTextureDown(new Texture("player/player_run_down.png"))
-            .setTextureLeft(new Texture("player/player_run_left.png"))
-            .setTextureRight(new Texture("player/player_run_right.png"))
-            .setTextureUpDash(new Texture("player/player_dash_up.png"))
-            .setTextureDownDash(new Texture("player/player_dash_down.png"))
-            .setTextureLeftDash(new Texture("player/player_dash_left.png"))
-            .setTextureRightDash(new Texture("player/player_dash_right.png"))
-            .setDashIndicatorTexture(new Texture("player/dash_indicator.png"))
-            .setIdleLeft(new Texture("player/player_idle_left.png"))
-            .setIdleRight(new Texture("player/player_idle_right.png"))
-            .setIdleUp(new Texture("player/player_idle_up.png"))
-            .setIdleDown(new Texture("player/player_idle_down.png"))
-            .setShootDown(new Texture("player/player_shoot_down.png"))
-            .setShootUp(new Texture("player/player_shoot_up.png"))
-            .setShootLeft(new Texture("player/player_shoot_left.png"))
-            .setShootRight(new Texture("player/player_shoot_right.png"))
-            .setDeathUp(new Texture("player/player_death_up.png"))
-            .setDeathDown(new Texture("player/player_death_down.png"))
-            .setDeathLeft(new Texture("player/player_death_left.png"))
-            .setDeathRight(new Texture("player/player_death_right.png"))
-            .setEmpty(new Texture("player/emptyfilmstrip.png"))
-            .setFramesInAnimation(12)
-            .setFramesInAnimationDash(5)
-            .setFramesInAnimationDashDiagonal(5)
-            .setFramesInAnimationShoot(5)
-            .setFramesInAnimationDeath(16)
-            .setFrameDelay(3)
-            .setDashLength(20)
-            .setMoveSpeed(12f)
-            .setCooldownLimit(10)
-            .setShootCooldownLimit(20)
-            .setSoundPlayer(soundPlayer)
-            .build();
+    renderEngine.addRenderable(level.getTileIndex());
+
+    PlayerModel player = createPlayer(playerLoc.x, playerLoc.y, soundPlayer, atlas);
 
     //    playerController.setPlayer(player);
     // Initlize controllers
-    playerController = new PlayerController(physicsEngine, player);
+    playerController = new PlayerController(physicsEngine, player, atlas);
     inputController.add(playerController);
     interactController.setPlayerController(playerController);
 
@@ -332,10 +501,7 @@ public class GameplayController implements Screen {
     uiController.setPlayer(playerController);
 
     // Load fish bullets builder
-    fishBulletBuilder =
-        BulletModel.Builder.newInstance()
-            .setBaseTexture(new Texture("bullet/whitefish.png"))
-            .setUnbreakableTexture(new Texture("bullet/urchinbullet.png"));
+    fishBulletBuilder = createFishBulletBuilder(atlas);
     // Load bosses
     bossControllers.clear();
 
@@ -344,72 +510,13 @@ public class GameplayController implements Screen {
       LevelObject bossContainer = layers.get("bosses").get(i);
       String name = bossContainer.bossName;
 
-      // FIXME: this literly only works because we are dumb it's stupid hack but
-      // whatever, should work, no less cursed than what we already have actually
-      // despise what I'm about to write, no one do this
-      //
-      // okay, so I'm just going to do some ad-hoc string parsing stuff here
-      // a more systematic solution would require more overhall to this structure
-      // which I would do if this were not a project with a due date in 2 weeks
-
-      // jellys are identified by containing the string jelly. They have ad-hoc names determining
-      // patterns.
-      // See the buildController method for the case statement defining the behavior.
-      //
-      // clams are similar, but they have a number suffixed determining their angle
-      // this number is in degrees
-      String[] splitName = name.replaceAll("[^a-zA-Z_]", "").split("_");
-      // Assuming that names are going to be of the format "_..._(boss)"
-      String assetName = splitName[splitName.length - 1];
-
+      String assetName = bossAssetName(name);
       JsonValue bossInfo = assets.getEntry(assetName, JsonValue.class);
       var bossBuilder =
-          BossModel.Builder.newInstance()
-              .setType(name)
-              .setFrameSize(bossInfo.getInt("frame_size", 0))
+          createBossBuilder(name, bossInfo, atlas)
               .setX(bossContainer.x)
               .setY(bossContainer.y)
-              .setHealth(bossInfo.getInt("health", 0))
-              .setHealthThresholds(bossInfo.get("thresholds").asIntArray())
-              .setHitbox(bossInfo.get("hitbox").asFloatArray())
-              .setScale(bossInfo.getFloat("scale", 1))
-              .setFalloverAnimation(new Texture("bosses/" + assetName + "/fallover.png"))
-              .setShootAnimation(new Texture("bosses/" + assetName + "/shoot.png"))
-              .setGetHitAnimation(new Texture("bosses/" + assetName + "/hurt.png"))
-              .setDeathAnimation(new Texture("bosses/" + assetName + "/death.png"))
-              .setAttackAnimation(new Texture("bosses/" + assetName + "/attack.png"))
-              .setIdleAnimation(new Texture("bosses/" + assetName + "/idle.png"))
-              .setFrameDelay(12)
               .setRoomId(bossContainer.roomId);
-      if (name.contains("swordfish")) {
-        bossBuilder
-            .setShootDownAnimation(new Texture("bosses/" + assetName + "/shoot_vertical.png"))
-            .setShootUpAnimation(new Texture("bosses/" + assetName + "/shoot_vertical_up.png"))
-            .setShootRightAnimation(new Texture("bosses/" + assetName + "/shoot_side_right.png"))
-            .setAttackDownAnimation(new Texture("bosses/" + assetName + "/attack_vertical.png"))
-            .setAttackUpAnimation(new Texture("bosses/" + assetName + "/attack_vertical_up.png"))
-            .setAttackRightAnimation(new Texture("bosses/" + assetName + "/attack_side_right.png"))
-            .setGetHitDownAnimation(new Texture("bosses/" + assetName + "/front_hurt.png"))
-            .setGetHitUpAnimation(new Texture("bosses/" + assetName + "/up_hurt.png"))
-            .setGetHitRightAnimation(new Texture("bosses/" + assetName + "/right_hurt.png"));
-      }
-      if (name.contains("final")) {
-        bossBuilder
-            .setTransformAnimation(new Texture("bosses/" + assetName + "/transform.png"))
-            .setFinalAttackAnimation(new Texture("bosses/" + assetName + "/final_attack.png"))
-            .setFinalShootAnimation(new Texture("bosses/" + assetName + "/final_shoot.png"))
-            .setFinalGetHitAnimation(new Texture("bosses/" + assetName + "/final_hurt.png"))
-            .setCatchBreathAnimation(new Texture("bosses/" + assetName + "/catch_breath.png"))
-            .setTerminatedAnimation(new Texture("bosses/" + assetName + "/terminated.png"));
-      }
-      if (name.contains("crab")) {
-        bossBuilder.setTerminatedAnimation(new Texture("bosses/" + assetName + "/terminated.png"));
-      }
-      if (name.contains("shark")) {
-        bossBuilder
-            .setGetHitUpAnimation(new Texture("bosses/" + assetName + "/up_hurt.png"))
-            .setIdleUpAnimation(new Texture("bosses/" + assetName + "/up_idle.png"));
-      }
       BossModel boss = bossBuilder.build();
       BossController bossController =
           bossBuilder.buildController(boss, player, fishBulletBuilder, physicsEngine);
@@ -417,6 +524,8 @@ public class GameplayController implements Screen {
       physicsEngine.addObject(boss);
       bossControllers.add(bossController);
     }
+    // Allocate this level's bullets now rather than in the middle of a fight
+    pools.prewarm();
     // Load walls
     for (LevelObject wall : layers.get("walls")) {
       PolygonModel model = new PolygonModel(wall.toList(), wall.x, wall.y);
@@ -454,7 +563,7 @@ public class GameplayController implements Screen {
     }
     // Load checkpoints
     for (LevelObject check : layers.get("checkpoints")) {
-      CheckpointModel model = new CheckpointModel(check, worldScale);
+      CheckpointModel model = new CheckpointModel(check, worldScale, sceneTextures);
       model.setBodyType(BodyDef.BodyType.StaticBody);
       physicsEngine.addObject(model);
       renderEngine.addRenderable(model);
@@ -462,7 +571,7 @@ public class GameplayController implements Screen {
     }
     // Load healthpacks
     for (LevelObject hpack : layers.get("healthpacks")) {
-      HealthpackModel model = new HealthpackModel(hpack, worldScale);
+      HealthpackModel model = new HealthpackModel(hpack, worldScale, sceneTextures);
       physicsEngine.addObject(model);
       renderEngine.addRenderable(model);
       interactController.add(model);
@@ -470,7 +579,7 @@ public class GameplayController implements Screen {
 
     // Load NPCs
     for (LevelObject npc : layers.get("npc")) {
-      NpcModel model = new NpcModel(npc, worldScale);
+      NpcModel model = new NpcModel(npc, worldScale, sceneTextures);
       model.setBodyType(BodyDef.BodyType.StaticBody);
       physicsEngine.addObject(model);
       renderEngine.addRenderable(model);
@@ -479,35 +588,163 @@ public class GameplayController implements Screen {
 
     // load foreground
     renderEngine.addRenderable(level.getForeground());
+
+    if (lastTextures != null) lastTextures.release();
+
+    // Start reading the levels this one leads to, so walking through a portal does not hitch
+    prefetcher.prefetch(level, loadedLevels);
+
+    // Capture the new level right away, so the first frame has something to draw
+    collectRenderables();
+    renderEngine.captureRenderables(frontSnapshot);
   }
 
   public void render(float delta) {
     if (active) {
       update(delta);
+      prefetcher.update(loadedLevels);
     }
   }
 
   public void draw(float delta) {
-    renderEngine.drawRenderables();
+    renderEngine.drawSnapshot(frontSnapshot);
+    // credits draw straight to the canvas, so they cannot be part of a snapshot
+    credits.draw(renderEngine);
     uiController.drawUI();
   }
 
+  /**
+   * Advances the simulation by one fixed timestep. Spawner timers, delayed actions and boss and
+   * player timers all count steps, so they only advance here.
+   *
+   * <p>This runs on the simulation thread.
+   */
+  private void step() {
+    physicsEngine.savePreviousPositions();
+    playerController.update();
+
+    for (BossController bc : bossControllers) {
+      bc.update(TIMESTEP);
+    }
+
+    if (!pauseController.getPaused()) {
+      physicsEngine.update(TIMESTEP);
+    }
+  }
+
+  /**
+   * Runs the steps of a frame, then captures the world into the back snapshot.
+   *
+   * <p>This runs on the simulation thread, while the GL thread draws the front snapshot and the UI.
+   *
+   * @param steps number of fixed timesteps to simulate
+   */
+  private void simulate(int steps) {
+    for (int i = 0; i < steps; i++) {
+      step();
+    }
+    collectRenderables();
+    renderEngine.captureRenderables(backSnapshot);
+  }
+
+  /** Hands the steps of this frame to the simulation thread. */
+  private void startSimulation(int steps) {
+    pending = simulation.submit(() -> simulate(steps));
+  }
+
+  /**
+   * Waits for the simulation thread to finish its steps, then publishes the frame it captured. The
+   * GL thread may only touch game state after calling this.
+   */
+  private void finishSimulation() {
+    if (pending == null) return;
+    try {
+      pending.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new GdxRuntimeException("Interrupted waiting for the simulation", e);
+    } catch (ExecutionException e) {
+      throw new GdxRuntimeException("Simulation step failed", e.getCause());
+    } finally {
+      pending = null;
+    }
+
+    RenderSnapshot captured = backSnapshot;
+    backSnapshot = frontSnapshot;
+    frontSnapshot = captured;
+  }
+
+  /** Adds the world to the rendering engine, physics objects in height-sorted order */
+  private void collectRenderables() {
+    renderEngine.clear();
+    renderEngine.addRenderable(level.getBackground());
+    renderEngine.addRenderable(uiController.getAmmoBar());
+    for (EnemyHealthBar e : uiController.getEnemies()) {
+      renderEngine.addRenderable(e);
+    }
+
+    renderEngine.addRenderable(level.getTileIndex());
+
+    // Bullets share one depth and are drawn above everything else, so only the rest is ordered
+    bulletCache.clear();
+    depthOrder.begin();
+    for (Model obj : physicsEngine.getObjects()) {
+      if (BuildConfig.DEBUG) assert obj.isActive();
+
+      if (obj instanceof BulletModel b) {
+        bulletCache.add(b);
+      } else if (obj instanceof GateModel gate) {
+        for (GateWallModel wall : gate.getWalls()) {
+          depthOrder.add(wall, wall.getY());
+        }
+      } else if (obj instanceof PlayerModel player) {
+        depthOrder.add(player, player.getShadowModel().getY());
+      } else if (obj instanceof Renderable r) {
+        depthOrder.add(r, obj.getY());
+      }
+    }
+
+    for (Renderable r : depthOrder.end()) {
+      renderEngine.addRenderable(r);
+    }
+    for (BulletModel b : bulletCache) {
+      renderEngine.addRenderable(b);
+    }
+
+    renderEngine.addRenderable(level.getForeground());
+  }
+
+  /**
+   * Updates everything outside the simulation, then starts the simulation of this frame and draws
+   * the last captured frame while it runs.
+   *
+   * <p>All game logic here runs while the simulation thread is idle. Only the snapshot, the UI and
+   * the credits are drawn while it runs.
+   */
   public void update(float delta) {
+    finishSimulation();
+    soundPlayer.flushSoundEffects();
+
     viewport.apply();
     uiViewport.apply();
     inputController.update();
     portalController.update(stateController);
 
+    int steps = 0;
     // Update entity controllers and camera if the game is not over
     if (gameState != GameState.OVER
         && !uiController.getPauseMenuController().getPauseMenu().isPaused()) {
-      playerController.update();
-      interactController.update();
       pauseController.continueGame();
+      interactController.update();
       uiController.update(bossControllers);
 
+      // Count the fixed steps the frame took, dropping time past the cap
+      accumulator = Math.min(accumulator + delta, TIMESTEP * MAX_SUBSTEPS);
+      steps = (int) (accumulator / TIMESTEP);
+      accumulator -= steps * TIMESTEP;
+
       // Update saving
-      if (saveTimer > 0) saveTimer += 1;
+      if (saveTimer > 0) saveTimer += steps;
       if (saveTimer > SAVE_DELAY) {
         saveTimer = 0;
         uiController.setDrawSave(false);
@@ -532,16 +769,9 @@ public class GameplayController implements Screen {
         saveTimer++;
       }
 
-      for (BossController bc : bossControllers) {
-        bc.update(delta);
-      }
-
-      if (!pauseController.getPaused()) {
-        physicsEngine.update(delta);
-      }
-
-      // Update camera
-      updateCamera();
+      // Update camera to the frame about to be drawn, before moving on to the next
+      updateCamera(delta);
+      renderEngine.setInterpolation(accumulator / TIMESTEP);
     }
 
     // Check if the player is dead, end the game
@@ -565,13 +795,8 @@ public class GameplayController implements Screen {
       }
     }
 
-    if (changeLevelFlag) {
-      changeLevel();
-      // Reset target so player doesn't teleport again on next frame
-      physicsEngine.setTarget(null);
-      physicsEngine.setSpawnPoint(null);
-      changeLevelFlag = false;
-    }
+    // The loading screen normally changes the level already
+    prepareLevelChange();
 
     // Load new level if the player has touched a portal, thus setting a target
     if (physicsEngine.hasTarget()) {
@@ -581,50 +806,6 @@ public class GameplayController implements Screen {
       listener.exitScreen(this, GDXRoot.EXIT_SWAP);
     }
 
-    // Render frame
-    renderEngine.clear();
-    renderEngine.addRenderable(level.getBackground());
-    renderEngine.addRenderable(uiController.getAmmoBar());
-    for (EnemyHealthBar e : uiController.getEnemies()) {
-      renderEngine.addRenderable(e);
-    }
-
-    for (Tile tile : level.getTiles()) {
-      renderEngine.addRenderable(tile);
-    }
-
-    // Add physics objects to rendering engine in height-sorted order
-    objectCache.clear();
-    for (Model obj : physicsEngine.getObjects()) {
-      if (BuildConfig.DEBUG) assert obj.isActive();
-
-      if (obj instanceof Renderable r) {
-        if (obj instanceof GateModel) {
-          for (GateWallModel wall : ((GateModel) obj).getWalls()) {
-            objectCache.add(wall);
-          }
-        } else {
-          objectCache.add((Model) r);
-        }
-      }
-    }
-    objectCache.sort(comp);
-
-    for (Model r : objectCache) {
-      renderEngine.addRenderable((Renderable) r);
-    }
-
-    renderEngine.addRenderable(level.getForeground());
-    renderEngine.addRenderable(credits);
-
-
-    // Draw the renderables
-    draw(delta);
-    if (BuildConfig.DEBUG) {
-      debugRenderer.render(
-          physicsEngine.getWorld(), renderEngine.getViewport().getCamera().combined);
-    }
-
     if (returnToHub) {
       physicsEngine.setTarget("levels/hub_world.json");
       returnToHub = false;
@@ -644,15 +825,30 @@ public class GameplayController implements Screen {
       options = false;
     }
 
+    if (gameState == GameState.OVER && inputController.didReset()) {
+      restart = true;
+      pauseController.continueGame();
+    }
+
+    // Simulate the next frame while this one is drawn, unless the screen was left
+    if (active) {
+      renderEngine.updateCullBounds();
+      startSimulation(steps);
+    }
+
+    // Draw the renderables
+    draw(delta);
+    if (BuildConfig.DEBUG) {
+      // the world can only be read once the simulation is done with it
+      finishSimulation();
+      debugRenderer.render(
+          physicsEngine.getWorld(), renderEngine.getViewport().getCamera().combined);
+    }
+
     // Draw reset and debug screen for wins and losses
-    if (gameState == GameState.OVER) {
-      if (inputController.didReset()) {
-        restart = true;
-        pauseController.continueGame();
-      } else {
-        uiController.drawGameOver();
-        renderEngine.drawGameState(gameState);
-      }
+    if (gameState == GameState.OVER && !restart) {
+      uiController.drawGameOver();
+      renderEngine.drawGameState(gameState);
     }
   }
 
@@ -662,13 +858,13 @@ public class GameplayController implements Screen {
       System.out.println("Changing level to: " + physicsEngine.getTarget());
     }
 
-    // Load in new level
-    if (loadedLevels.containsKey(physicsEngine.getTarget())) {
-      level = loadedLevels.get(physicsEngine.getTarget());
-    } else {
-      level = new Level(physicsEngine.getTarget());
-      loadedLevels.put(level.name, level);
+    // Release the free bullets of the level being left
+    if (!level.name.equals(physicsEngine.getTarget())) {
+      physicsEngine.getBulletPools().trim();
     }
+
+    // Load in new level
+    level = prefetcher.obtain(physicsEngine.getTarget(), loadedLevels);
     stateController.setCurrentLevel(level.name);
 
     // Reload
@@ -731,8 +927,8 @@ public class GameplayController implements Screen {
   }
 
   /** Updates the camera position to keep the player centered on the screen */
-  private void updateCamera() {
-    Vector2 playerPos = playerController.getLocation();
+  private void updateCamera(float delta) {
+    Vector2 playerPos = playerController.getRenderLocation(renderEngine.getInterpolation());
 
     updateCameraCache.set(viewport.getCamera().position.x, viewport.getCamera().position.y);
     Vector2 diff = updateCameraCache.sub(playerPos);
@@ -740,9 +936,12 @@ public class GameplayController implements Screen {
     if (diff.len() < CAMERA_SNAP_DISTANCE) {
       viewport.getCamera().position.set(playerPos.x, playerPos.y, 0);
     } else {
-      diff.scl(CAMERA_SMOOTHNESS);
+      // CAMERA_SMOOTHNESS is per step, so scale it to the length of the frame
+      diff.scl(1 - (float) Math.pow(1 - CAMERA_SMOOTHNESS, delta / TIMESTEP));
       viewport.getCamera().translate(-diff.x, -diff.y, 0);
     }
+    Vector3 camera = viewport.getCamera().position;
+    soundPlayer.setListener(camera.x, camera.y, viewport.getWorldWidth() / 2);
   }
 
   /**
@@ -754,8 +953,24 @@ public class GameplayController implements Screen {
     this.listener = listener;
   }
 
+  /**
+   * Changes to the level the player walked into, if they have not been moved there yet.
+   *
+   * <p>This builds the level and pre-warms its bullet pools, so it is meant to run behind the
+   * loading screen, on the GL thread, while the game screen is hidden.
+   */
+  public void prepareLevelChange() {
+    if (!changeLevelFlag) return;
+    changeLevel();
+    // Reset target so player doesn't teleport again on next frame
+    physicsEngine.setTarget(null);
+    physicsEngine.setSpawnPoint(null);
+    changeLevelFlag = false;
+  }
+
   public void setAssets(AssetDirectory assets) {
     this.assets = assets;
+    this.textureCache = new TextureCache(assets);
   }
 
   public void setReturnToHub(boolean returnToHub) {
@@ -795,6 +1010,7 @@ public class GameplayController implements Screen {
   }
 
   public void pause() {
+    finishSimulation();
     pauseController.pauseGame();
   }
 
@@ -803,10 +1019,30 @@ public class GameplayController implements Screen {
   }
 
   public void hide() {
+    finishSimulation();
     active = false;
   }
 
+  /** Frees everything this controller holds. It must not be used afterwards. */
   public void dispose() {
+    clearLevel();
+    simulation.shutdown();
+    prefetcher.dispose();
+    renderEngine.dispose();
+    atlas.dispose();
+    if (sceneTextures != null) {
+      sceneTextures.release();
+      sceneTextures = null;
+    }
+    for (Level loaded : loadedLevels.values()) {
+      loaded.dispose();
+    }
+    loadedLevels.clear();
+  }
+
+  /** Tears down the level being played, before another is set up */
+  private void clearLevel() {
+    finishSimulation();
     //    playerController.setPlayer(null);
     bossControllers.clear();
     uiController.clear();
@@ -831,24 +1067,4 @@ public class GameplayController implements Screen {
   public void loadState() {
     stateController.loadState();
   }
-
-  /** Compares Models based on height in the world */
-  class HeightComparator implements Comparator<Model> {
-    @Override
-    public int compare(Model o1, Model o2) {
-      if (o1 instanceof PlayerModel) {
-        o1 = ((PlayerModel) o1).getShadowModel();
-      } else if (o2 instanceof PlayerModel) {
-        o2 = ((PlayerModel) o2).getShadowModel();
-      }
-
-      float diff = o2.getBody().getPosition().y - o1.getBody().getPosition().y;
-      if (diff > 0) {
-        return 1;
-      } else if (diff < 0) {
-        return -1;
-      }
-      return 0;
-    }
-  }
 }
@@ -1,16 +1,15 @@
 package edu.cornell.jade.seasthethrone;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import edu.cornell.jade.seasthethrone.assets.AssetDirectory;
 import edu.cornell.jade.seasthethrone.audio.SoundPlayer;
+import edu.cornell.jade.seasthethrone.render.FontCache;
 import edu.cornell.jade.seasthethrone.render.GameCanvas;
 import edu.cornell.jade.seasthethrone.util.FilmStrip;
 import edu.cornell.jade.seasthethrone.util.ScreenListener;
@@ -59,6 +58,18 @@ public class LoadScreen implements Screen {
   /** Default budget for asset loader (do nothing but load 60 fps) */
   private static int DEFAULT_BUDGET = 50;
 
+  /**
+   * Milliseconds of each frame spent finishing assets on this thread. Files are read and decoded on
+   * the asset manager's own thread, so this only covers GPU uploads and keeps the window drawing.
+   */
+  private static final int LOAD_MILLIS = 10;
+
+  /** Color of the empty part of the progress bar */
+  private static final Color BAR_BACKGROUND = new Color(0.15f, 0.15f, 0.15f, 1f);
+
+  /** Blank texture to draw the progress bar with */
+  private Texture blank;
+
   private int exitCode;
 
   /** object to play music and sound effects */
@@ -70,6 +81,9 @@ public class LoadScreen implements Screen {
   /** Scale of font */
   private float fontScale;
 
+  /** Work to do behind this screen for the next one, or null if there is none */
+  private Runnable preparation;
+
   /**
    * Creates a LoadScreen with the default budget, size and position.
    *
@@ -106,6 +120,12 @@ public class LoadScreen implements Screen {
     textFont = internal.getEntry("loading:alagard", BitmapFont.class);
     resizeFont();
 
+    Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+    pixmap.setColor(Color.WHITE);
+    pixmap.fill();
+    blank = new Texture(pixmap);
+    pixmap.dispose();
+
     assets = new AssetDirectory( file );
     active = true;
   }
@@ -135,6 +155,15 @@ public class LoadScreen implements Screen {
     viewport.update(canvas.getWidth(), canvas.getHeight());
     viewport.apply();
 
+    if (!begunAssetLoading) {
+      // Start loading the real assets
+      assets.loadAssets();
+      begunAssetLoading = true;
+    }
+    if (!assets.isFinished()) {
+      assets.update(LOAD_MILLIS);
+    }
+
     timer += 1;
   }
 
@@ -153,19 +182,30 @@ public class LoadScreen implements Screen {
 
     // draw text
     String text = "Loading...";
-    textFont.dispose();
     resizeFont();
-
-    GlyphLayout layout = new GlyphLayout(textFont, text);
 //    ox = - layout.width / 2.0f;
 //    oy = 0.15f* canvas.getHeight();
     ox = -0.46f*canvas.getWidth();
     oy = -0.38f*canvas.getHeight();
     canvas.drawText(text, textFont, ox,  oy);
 
+    if (!assets.isFinished()) {
+      drawProgress();
+    }
+
     canvas.end();
   }
 
+  /** Draws a bar filling up as the assets load */
+  private void drawProgress() {
+    float width = 0.4f * canvas.getWidth();
+    float height = 0.02f * canvas.getHeight();
+    float ox = -width / 2f;
+    float oy = -0.44f * canvas.getHeight();
+    canvas.draw(blank, BAR_BACKGROUND, ox, oy, width, height);
+    canvas.draw(blank, Color.WHITE, ox, oy, assets.getProgress() * width, height);
+  }
+
   private void drawPlayer() {
     frameCounter += 1;
     if (frameCounter % frameDelay == 0) {
@@ -182,17 +222,7 @@ public class LoadScreen implements Screen {
 
   private void resizeFont() {
     fontScale = (float) canvas.getHeight() / 180;
-
-    FreeTypeFontGenerator generator =
-            new FreeTypeFontGenerator(Gdx.files.internal("Alagard.ttf"));
-    FreeTypeFontGenerator.FreeTypeFontParameter parameter =
-            new FreeTypeFontGenerator.FreeTypeFontParameter();
-
-    textFont = generator.generateFont(parameter);
-    textFont.setUseIntegerPositions(false);
-    textFont.getData().setScale(fontScale);
-    textFont.setColor(Color.WHITE);
-    generator.dispose();
+    textFont = FontCache.get().getFont(FontCache.DEFAULT_SIZE, fontScale, Color.WHITE);
   }
 
   /**
@@ -209,11 +239,10 @@ public class LoadScreen implements Screen {
       update(delta);
       draw();
 
-      if (!begunAssetLoading) {
-        // Start loading the real assets
-        assets.loadAssets();
-        assets.finishLoading();
-        begunAssetLoading = true;
+      // Wait until this screen has been shown, so the hitch is hidden behind it
+      if (preparation != null && timer > 1) {
+        preparation.run();
+        preparation = null;
       }
 
       // We are are ready, notify our listener
@@ -229,7 +258,7 @@ public class LoadScreen implements Screen {
    * @return true if the player is ready to go
    */
   public boolean isReady() {
-    return timer >= budget;
+    return timer >= budget && begunAssetLoading && assets.isFinished() && preparation == null;
   }
 
   /**
@@ -243,6 +272,15 @@ public class LoadScreen implements Screen {
 
   public AssetDirectory getAssets() { return assets; }
 
+  /**
+   * Sets work to do behind this screen before leaving it, such as building the next level.
+   *
+   * @param preparation the work to do, or null if there is none
+   */
+  public void setPreparation(Runnable preparation) {
+    this.preparation = preparation;
+  }
+
   @Override
   public void show() {
     active = true;
@@ -271,6 +309,9 @@ public class LoadScreen implements Screen {
 
   @Override
   public void dispose() {
-
+    if (blank != null) {
+      blank.dispose();
+      blank = null;
+    }
   }
 }
@@ -600,6 +600,8 @@ public class OptionScreen implements Screen {
   public void show() {
     hoverIndex = 0;
     exit = false;
+    // The game takes input while it runs, so take it back for the buttons
+    Gdx.input.setInputProcessor(stage);
   }
 
   @Override
@@ -12,11 +12,11 @@ package edu.cornell.jade.seasthethrone;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Preferences;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.Vector2;
 import edu.cornell.jade.seasthethrone.gamemodel.BulletModel;
 import edu.cornell.jade.seasthethrone.gamemodel.boss.EnemyModel;
 import edu.cornell.jade.seasthethrone.physics.PhysicsEngine;
+import edu.cornell.jade.seasthethrone.render.SpriteAtlas;
 import edu.cornell.jade.seasthethrone.gamemodel.player.PlayerModel;
 import edu.cornell.jade.seasthethrone.util.Direction;
 import edu.cornell.jade.seasthethrone.input.Controllable;
@@ -78,8 +78,12 @@ public class PlayerController implements Controllable {
   /** Preferences for the player */
   Preferences prefs;
 
-  /** Constructs PlayerController */
-  public PlayerController(PhysicsEngine physicsEngine, PlayerModel player) {
+  /**
+   * Constructs PlayerController
+   *
+   * @param atlas the atlas to load the player's bullet texture from
+   */
+  public PlayerController(PhysicsEngine physicsEngine, PlayerModel player, SpriteAtlas atlas) {
     this.physicsEngine = physicsEngine;
     this.player = player;
     // start dash indicator down
@@ -91,11 +95,11 @@ public class PlayerController implements Controllable {
 
     bulletBuilder =
         BulletModel.Builder.newInstance()
-            .setBaseTexture(new Texture("bullet/whitefish.png"))
+            .setBaseTexture(atlas.get("bullet/whitefish.png"))
             .setType(BulletModel.Builder.Type.PLAYER);
   }
 
-  public PlayerController(PhysicsEngine physicsEngine) {
+  public PlayerController(PhysicsEngine physicsEngine, SpriteAtlas atlas) {
     this.physicsEngine = physicsEngine;
     // start dash indicator down
     indicatorDirection = new Vector2(0, -1);
@@ -113,7 +117,7 @@ public class PlayerController implements Controllable {
     else this.toggleEasyMode = false;
     bulletBuilder =
         BulletModel.Builder.newInstance()
-            .setBaseTexture(new Texture("bullet/whitefish.png"))
+            .setBaseTexture(atlas.get("bullet/whitefish.png"))
             .setType(BulletModel.Builder.Type.PLAYER);
   }
 
@@ -317,6 +321,16 @@ public class PlayerController implements Controllable {
     return player.getPosition();
   }
 
+  /**
+   * Returns where the player is drawn, between its last two simulation steps.
+   *
+   * @param alpha how far through the next step the frame is drawn
+   * @return the interpolated player position
+   */
+  public Vector2 getRenderLocation(float alpha) {
+    return player.getRenderPosition(alpha);
+  }
+
   public Vector2 getShadowLocation() {
     return player.getShadowModel().getPosition();
   }
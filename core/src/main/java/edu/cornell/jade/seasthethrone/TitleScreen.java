@@ -1,16 +1,15 @@
 package edu.cornell.jade.seasthethrone;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import edu.cornell.jade.seasthethrone.assets.AssetDirectory;
 import edu.cornell.jade.seasthethrone.audio.SoundPlayer;
 import edu.cornell.jade.seasthethrone.input.Controllable;
+import edu.cornell.jade.seasthethrone.render.FontCache;
 import edu.cornell.jade.seasthethrone.render.GameCanvas;
 import edu.cornell.jade.seasthethrone.util.ScreenListener;
 
@@ -143,7 +142,6 @@ public class TitleScreen implements Screen, Controllable {
 
     // draw the menu
     // NOTE: this is just a hardcoded magic number to get text scaling right
-    textFont.dispose();
     resizeFont();
 
     float y_offset = -canvas.getHeight() / 15f;
@@ -210,15 +208,7 @@ public class TitleScreen implements Screen, Controllable {
   private void resizeFont() {
     fontScale = (float) canvas.getHeight() / 275;
 
-    FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("Alagard.ttf"));
-    FreeTypeFontGenerator.FreeTypeFontParameter parameter =
-        new FreeTypeFontGenerator.FreeTypeFontParameter();
-
-    textFont = generator.generateFont(parameter);
-    textFont.setUseIntegerPositions(false);
-    textFont.getData().setScale(fontScale);
-    textFont.setColor(Color.WHITE);
-    generator.dispose();
+    textFont = FontCache.get().getFont(FontCache.DEFAULT_SIZE, fontScale, Color.WHITE);
   }
 
   @Override
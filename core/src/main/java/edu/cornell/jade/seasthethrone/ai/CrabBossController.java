@@ -9,6 +9,7 @@ import edu.cornell.jade.seasthethrone.gamemodel.BulletModel;
 import edu.cornell.jade.seasthethrone.gamemodel.boss.BossModel;
 import edu.cornell.jade.seasthethrone.gamemodel.player.PlayerModel;
 import edu.cornell.jade.seasthethrone.physics.PhysicsEngine;
+import edu.cornell.jade.seasthethrone.util.SeededRandom;
 import java.util.Random;
 
 /** A controller defining the bahavior of a crab boss. */
@@ -116,7 +117,7 @@ public class CrabBossController implements BossController {
     this.state = State.IDLE;
 
     this.goalPos = new Vector2();
-    this.rand = new Random();
+    this.rand = SeededRandom.newRandom();
     this.bounds = new Rectangle(boss.getX() - 16, boss.getY() - 13, 32, 26);
 
     this.ringStack1Attack = new RingAttack(boss, 100, 9, 10f, false, builder, physicsEngine);
@@ -11,6 +11,7 @@ import edu.cornell.jade.seasthethrone.gamemodel.boss.FinalBossModel;
 import edu.cornell.jade.seasthethrone.gamemodel.player.PlayerModel;
 import edu.cornell.jade.seasthethrone.physics.PhysicsEngine;
 
+import edu.cornell.jade.seasthethrone.util.SeededRandom;
 import java.util.Random;
 
 public class FinalBossController implements BossController {
@@ -136,7 +137,7 @@ public class FinalBossController implements BossController {
 
     this.firstThreshold = true;
     this.goalPos = new Vector2();
-    this.rand = new Random();
+    this.rand = SeededRandom.newRandom();
     this.bounds = new Rectangle(boss.getX() - 20, boss.getY() - 25, 40, 35);
 
     this.aimedArcAttack = new AimedArcAttack(40, boss, player, builder, physicsEngine);
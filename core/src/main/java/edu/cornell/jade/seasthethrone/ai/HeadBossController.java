@@ -11,6 +11,7 @@ import edu.cornell.jade.seasthethrone.gamemodel.boss.BossModel;
 import edu.cornell.jade.seasthethrone.gamemodel.player.PlayerModel;
 import edu.cornell.jade.seasthethrone.physics.PhysicsEngine;
 
+import edu.cornell.jade.seasthethrone.util.SeededRandom;
 import java.util.Random;
 
 /** A controller defining the behavior of a head boss. */
@@ -99,7 +100,7 @@ public class HeadBossController implements BossController {
     this.state = State.IDLE;
 
     this.goalPos = new Vector2();
-    this.rand = new Random();
+    this.rand = SeededRandom.newRandom();
     this.bounds = new Rectangle(boss.getX() - 13, boss.getY() - 13, 26, 26);
 
     this.unbreakableSpiralAttack = new SpiralAttack(boss, 10, 16, true, builder, physicsEngine);
@@ -12,6 +12,7 @@ import edu.cornell.jade.seasthethrone.gamemodel.boss.BossModel;
 import edu.cornell.jade.seasthethrone.gamemodel.player.PlayerModel;
 import edu.cornell.jade.seasthethrone.physics.PhysicsEngine;
 
+import edu.cornell.jade.seasthethrone.util.SeededRandom;
 import java.util.Random;
 
 /** A controller defining the bahavior of a shark boss. */
@@ -103,7 +104,7 @@ public class SharkBossController implements BossController {
     this.state = State.IDLE;
 
     this.goalPos = new Vector2();
-    this.rand = new Random();
+    this.rand = SeededRandom.newRandom();
     this.bounds = new Rectangle(boss.getX() - 15, boss.getY() - 15, 30, 30);
 
     this.oscRingAttack = new OscillatingRingAttack(boss, player, builder, physicsEngine);
@@ -11,6 +11,7 @@ import edu.cornell.jade.seasthethrone.gamemodel.boss.SwordfishBossModel;
 import edu.cornell.jade.seasthethrone.gamemodel.player.PlayerModel;
 import edu.cornell.jade.seasthethrone.physics.PhysicsEngine;
 
+import edu.cornell.jade.seasthethrone.util.SeededRandom;
 import java.util.Random;
 
 public class SwordfishBossController implements BossController {
@@ -93,7 +94,7 @@ public class SwordfishBossController implements BossController {
     this.state = State.IDLE;
 
     this.goalPos = new Vector2();
-    this.rand = new Random();
+    this.rand = SeededRandom.newRandom();
     this.bounds = new Rectangle(boss.getX() - 15, boss.getY() - 15, 30, 30);
 
     this.arcAttack = new AimedArcAttack(100, boss, player, builder, physicsEngine);
@@ -10,6 +10,7 @@ import edu.cornell.jade.seasthethrone.gamemodel.boss.BossModel;
 import edu.cornell.jade.seasthethrone.gamemodel.player.PlayerModel;
 import edu.cornell.jade.seasthethrone.physics.PhysicsEngine;
 
+import edu.cornell.jade.seasthethrone.util.SeededRandom;
 import java.util.Random;
 
 /** A controller defining the behavior of a jelly boss. */
@@ -89,7 +90,7 @@ abstract class JellyBossController implements BossController {
     this.attack = attack1;
 
     this.goalPos = new Vector2();
-    this.rand = new Random();
+    this.rand = SeededRandom.newRandom();
     this.bounds = new Rectangle(boss.getX() - 10, boss.getY() - 15, 20, 30);
   }
 
@@ -0,0 +1,233 @@
+package edu.cornell.jade.seasthethrone.assets;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import edu.cornell.gdiac.audio.AudioSource;
+import edu.cornell.gdiac.audio.AudioStream;
+import edu.cornell.jade.seasthethrone.BuildConfig;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps short sound effects decoded to PCM, so they are decoded once rather than every launch.
+ *
+ * <p>Building a sound effect asks its audio source for the whole effect as samples, which decodes
+ * the file again each time. The first time an effect is decoded, the cache writes its samples to
+ * the local cache directory. Later launches map that file into memory instead of decoding, as long
+ * as the audio file has not changed since.
+ *
+ * <p>Decoded effects are also kept in memory, so an effect built again, such as after its assets
+ * are reloaded, needs no disk access. They are dropped least recently used first once they take
+ * more than the budget.
+ *
+ * <p>The cache may be used from any thread, including the loading thread of the asset manager.
+ */
+public class PcmCache {
+  /** Directory of the cached samples, relative to the local storage of the game */
+  private static final String DIRECTORY = ".cache/pcm/";
+
+  /** First bytes of every cached effect */
+  private static final int MAGIC = 0x5043_4d31;
+
+  /** Length of the header before the samples */
+  private static final int HEADER_BYTES = 4 + 8 + 8 + 4 + 4 + 4 + 1;
+
+  /** Longest effect cached, in seconds; longer sounds are decoded as before */
+  public static final float MAX_SECONDS = 5f;
+
+  /** Default bytes of samples kept in memory */
+  public static final long DEFAULT_BUDGET = 4L << 20;
+
+  /** The singleton instance of this cache */
+  private static PcmCache instance;
+
+  /** Samples in memory by audio file path, least recently used first */
+  private final LinkedHashMap<String, ByteBuffer> resident;
+
+  /** Bytes of samples in memory */
+  private long residentBytes;
+
+  /** Most bytes of samples kept in memory */
+  private long budget;
+
+  /** Creates an empty cache */
+  private PcmCache() {
+    // Access order, so iteration starts from the least recently used
+    resident = new LinkedHashMap<>(16, 0.75f, true);
+    budget = DEFAULT_BUDGET;
+  }
+
+  /** Returns the singleton PCM cache */
+  public static synchronized PcmCache get() {
+    if (instance == null) {
+      instance = new PcmCache();
+    }
+    return instance;
+  }
+
+  /**
+   * Sets the most bytes of samples kept in memory, dropping the least recently used until they
+   * fit. Effects already built are not affected.
+   *
+   * @param budget the budget in bytes
+   */
+  public synchronized void setBudget(long budget) {
+    this.budget = budget;
+    trim();
+  }
+
+  /**
+   * Returns a source whose samples come from the cache, decoding and caching them if they are not
+   * there yet. Sources too long to cache are returned unchanged.
+   *
+   * @param source the audio source of the effect
+   * @return a source with the same samples, or the source itself
+   */
+  public synchronized AudioSource obtain(AudioSource source) {
+    if (source.getDuration() > MAX_SECONDS || source.getFile() == null) {
+      return source;
+    }
+    String path = source.getFile().path();
+    ByteBuffer data = resident.get(path);
+    if (data == null) {
+      data = readCached(source);
+      if (data == null) {
+        data = source.getData();
+        writeCached(source, data);
+      }
+      resident.put(path, data);
+      residentBytes += data.capacity();
+      trim();
+    }
+    return new Cached(source, data);
+  }
+
+  /** Drops the least recently used samples until those in memory fit the budget */
+  private void trim() {
+    Iterator<Map.Entry<String, ByteBuffer>> it = resident.entrySet().iterator();
+    while (residentBytes > budget && it.hasNext()) {
+      residentBytes -= it.next().getValue().capacity();
+      it.remove();
+    }
+  }
+
+  /** Returns the file caching the samples of a source */
+  private static FileHandle cacheFile(AudioSource source) {
+    return Gdx.files.local(DIRECTORY + source.getFile().path().replace('/', '_') + ".pcm");
+  }
+
+  /**
+   * Maps the cached samples of a source, or returns null if there are none or the audio file has
+   * changed since they were written.
+   */
+  private static ByteBuffer readCached(AudioSource source) {
+    FileHandle file = cacheFile(source);
+    if (!file.exists() || file.length() < HEADER_BYTES) return null;
+
+    FileHandle audio = source.getFile();
+    try (FileChannel channel = FileChannel.open(file.file().toPath(), StandardOpenOption.READ)) {
+      ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      if (mapped.getInt() != MAGIC
+          || mapped.getLong() != audio.length()
+          || mapped.getLong() != audio.lastModified()
+          || mapped.getInt() != source.getChannels()
+          || mapped.getInt() != source.getSampleRate()) {
+        return null;
+      }
+      int size = mapped.getInt();
+      ByteOrder order = mapped.get() == 1 ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN;
+      if (size != mapped.remaining()) return null;
+      return mapped.slice().order(order);
+    } catch (IOException e) {
+      Gdx.app.error("PcmCache", "Could not read cached samples of " + audio.path(), e);
+      return null;
+    }
+  }
+
+  /** Writes the samples of a source to its cache file, leaving the buffer untouched */
+  private static void writeCached(AudioSource source, ByteBuffer data) {
+    FileHandle file = cacheFile(source);
+    FileHandle audio = source.getFile();
+    byte[] bytes = new byte[data.limit()];
+    ByteBuffer view = data.duplicate();
+    view.rewind();
+    view.get(bytes);
+
+    try (DataOutputStream out = new DataOutputStream(file.write(false, 8192))) {
+      out.writeInt(MAGIC);
+      out.writeLong(audio.length());
+      out.writeLong(audio.lastModified());
+      out.writeInt(source.getChannels());
+      out.writeInt(source.getSampleRate());
+      out.writeInt(bytes.length);
+      out.writeByte(data.order() == ByteOrder.LITTLE_ENDIAN ? 1 : 0);
+      out.write(bytes);
+    } catch (IOException | RuntimeException e) {
+      // The cache only saves time, so the effect still loads without it
+      Gdx.app.error("PcmCache", "Could not cache samples of " + audio.path(), e);
+      file.delete();
+      return;
+    }
+    if (BuildConfig.DEBUG) {
+      System.out.println("Cached samples of " + audio.path() + ": " + bytes.length + " bytes");
+    }
+  }
+
+  /** An audio source whose samples come from the cache */
+  private static class Cached implements AudioSource {
+    /** The source the samples were decoded from, which still streams the effect */
+    private final AudioSource source;
+
+    /** The samples of the effect */
+    private final ByteBuffer data;
+
+    Cached(AudioSource source, ByteBuffer data) {
+      this.source = source;
+      this.data = data;
+    }
+
+    @Override
+    public FileHandle getFile() {
+      return source.getFile();
+    }
+
+    @Override
+    public int getChannels() {
+      return source.getChannels();
+    }
+
+    @Override
+    public int getSampleRate() {
+      return source.getSampleRate();
+    }
+
+    @Override
+    public float getDuration() {
+      return source.getDuration();
+    }
+
+    @Override
+    public AudioStream getStream() {
+      return source.getStream();
+    }
+
+    /** Returns a view of the cached samples, which callers may consume without affecting it */
+    @Override
+    public ByteBuffer getData() {
+      ByteBuffer view = data.duplicate().order(data.order());
+      view.rewind();
+      return view;
+    }
+
+    /** Does nothing, as the source belongs to the asset manager and the samples to the cache */
+    @Override
+    public void dispose() {}
+  }
+}
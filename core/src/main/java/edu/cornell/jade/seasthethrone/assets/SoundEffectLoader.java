@@ -98,7 +98,8 @@ public class SoundEffectLoader extends AsynchronousAssetLoader<SoundEffect, Soun
     @Override
     public void loadAsync (AssetManager manager, String fileName, FileHandle file, SoundEffectParameters params) {
         AudioSource source = manager.get(manager.getDependencies(fileName).first(),AudioSource.class);
-        cachedBuffer = ((AudioEngine)Gdx.audio).newSoundBuffer(source);
+        // Short effects come from the PCM cache rather than being decoded again
+        cachedBuffer = ((AudioEngine)Gdx.audio).newSoundBuffer(PcmCache.get().obtain(source));
     }
 
     /** 
@@ -0,0 +1,89 @@
+package edu.cornell.jade.seasthethrone.assets;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Shares textures between scenes, counting the references to each.
+ *
+ * <p>Textures are loaded through an {@link AssetDirectory}, which already counts references by
+ * file name. A texture is read from disk and uploaded the first time it is acquired, and disposed
+ * once every lease holding it has been released.
+ *
+ * <p>A scene takes its textures from a {@link Lease}. Taking the lease of the next scene before
+ * releasing the last one keeps every texture the two share loaded, so reloading a level or
+ * respawning touches neither the disk nor the GPU.
+ */
+public class TextureCache {
+  /** The asset manager holding every cached texture */
+  private final AssetDirectory assets;
+
+  /**
+   * Constructs a cache loading textures through an asset manager.
+   *
+   * @param assets the asset manager to load textures with
+   */
+  public TextureCache(AssetDirectory assets) {
+    this.assets = assets;
+  }
+
+  /**
+   * Returns a texture, loading it if nothing holds it yet. Every call must be matched by a call to
+   * {@link #release}. This must run on the GL thread.
+   *
+   * @param fileName the internal path of the texture
+   * @return the texture
+   */
+  public Texture acquire(String fileName) {
+    // Loading an asset already loaded only counts another reference to it
+    assets.load(fileName, Texture.class);
+    return assets.finishLoadingAsset(fileName);
+  }
+
+  /**
+   * Releases a texture, disposing it once nothing holds it.
+   *
+   * @param fileName the internal path of the texture
+   */
+  public void release(String fileName) {
+    if (assets.isLoaded(fileName, Texture.class)) {
+      assets.unload(fileName);
+    }
+  }
+
+  /** Returns a new lease on this cache */
+  public Lease lease() {
+    return new Lease();
+  }
+
+  /** The textures a scene holds, released all at once when the scene is torn down */
+  public class Lease {
+    /** The file name of every texture acquired, once per acquisition */
+    private final Array<String> held;
+
+    /** Constructs a lease holding nothing */
+    private Lease() {
+      held = new Array<>();
+    }
+
+    /**
+     * Returns a texture, holding it until this lease is released.
+     *
+     * @param fileName the internal path of the texture
+     * @return the texture
+     */
+    public Texture get(String fileName) {
+      Texture texture = acquire(fileName);
+      held.add(fileName);
+      return texture;
+    }
+
+    /** Releases every texture held. The lease may be used again afterwards. */
+    public void release() {
+      for (String fileName : held) {
+        TextureCache.this.release(fileName);
+      }
+      held.clear();
+    }
+  }
+}
@@ -0,0 +1,234 @@
+package edu.cornell.jade.seasthethrone.audio;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import edu.cornell.gdiac.audio.AudioEngine;
+import edu.cornell.gdiac.audio.AudioSource;
+import edu.cornell.gdiac.audio.MusicQueue;
+
+/**
+ * Switches between songs by crossfading, without decoding on the game thread.
+ *
+ * <p>Every song streams from a music queue of its own, so switching never clears a queue and
+ * starts decoding again. A song that is not playing is kept cued: it is started silently and
+ * paused straight away, which fills its first buffers. Starting it later only resumes the source.
+ * Songs are cued when added, which happens behind the loading screen, and a song rewound after
+ * playing is cued again by a later {@link #update}, one song per frame.
+ *
+ * <p>Songs marked to resume are paused when faded out, so they pick up where they left off. Other
+ * songs are rewound and cued again from the start.
+ *
+ * <p>Music queues are not thread-safe, so the director must only be used on the main application
+ * thread.
+ */
+class MusicDirector {
+  /** Default length of a crossfade in seconds */
+  static final float DEFAULT_FADE = 1.5f;
+
+  /** A song and the queue it streams from */
+  private static class Track {
+    /** The queue playing only this song */
+    final MusicQueue queue;
+
+    /** Whether the song resumes where it left off, rather than starting over */
+    final boolean resume;
+
+    /** Loudness of the song, from silent to full, before the master volume */
+    float level;
+
+    /** Whether the first buffers of the song are filled, ready to resume */
+    boolean cued;
+
+    Track(MusicQueue queue, boolean resume) {
+      this.queue = queue;
+      this.resume = resume;
+    }
+  }
+
+  /** The engine creating the music queues */
+  private final AudioEngine engine;
+
+  /** Every song, by name */
+  private final ObjectMap<String, Track> tracks;
+
+  /** Songs rewound and waiting to be cued again */
+  private final Array<Track> uncued;
+
+  /** The song fading in or playing, or null if there is none */
+  private Track current;
+
+  /** The song fading out, or null if there is none */
+  private Track fading;
+
+  /** Whether the current song has been started */
+  private boolean started;
+
+  /** Whether the music is paused, until a song is played again */
+  private boolean paused;
+
+  /** Length of the crossfade in progress, in seconds */
+  private float fadeTime;
+
+  /** Volume of a song at full level */
+  private float volume;
+
+  /**
+   * Constructs a director with no songs.
+   *
+   * @param engine the engine to create music queues with
+   * @param volume the volume of a song at full level
+   */
+  MusicDirector(AudioEngine engine, float volume) {
+    this.engine = engine;
+    this.volume = volume;
+    tracks = new ObjectMap<>();
+    uncued = new Array<>();
+    fadeTime = DEFAULT_FADE;
+  }
+
+  /**
+   * Adds a song and cues it.
+   *
+   * @param name the name the song is played by
+   * @param source the audio of the song
+   * @param resume whether the song resumes where it left off, rather than starting over
+   */
+  void add(String name, AudioSource source, boolean resume) {
+    MusicQueue queue = engine.newMusicBuffer(source.getChannels() == 1, source.getSampleRate());
+    queue.setLooping(true);
+    queue.addSource(source);
+    Track track = new Track(queue, resume);
+    tracks.put(name, track);
+    cue(track);
+  }
+
+  /**
+   * Crossfades to a song, resuming the music if it is paused. Asking for the song already playing
+   * does nothing.
+   *
+   * @param name the name of the song
+   * @param seconds the length of the crossfade, or 0 to cut
+   */
+  void play(String name, float seconds) {
+    Track track = tracks.get(name);
+    if (track == null) return;
+    if (paused) {
+      paused = false;
+      if (track == current) {
+        update(0);
+        return;
+      }
+    }
+    if (track == current) return;
+
+    if (fading != null && fading != track) {
+      // A third song cuts short the fade still running
+      retire(fading);
+    }
+    fading = current;
+    current = track;
+    started = false;
+    fadeTime = seconds;
+    if (fading == null && current.level == 0 && seconds <= 0) {
+      current.level = 1;
+    }
+    update(0);
+  }
+
+  /**
+   * Advances the crossfade. This must be called every frame.
+   *
+   * @param delta seconds since the last frame
+   */
+  void update(float delta) {
+    if (paused) return;
+    if (uncued.size > 0) {
+      cue(uncued.pop());
+    }
+
+    if (current != null && !started) {
+      // Only a song asked for before it was cued again fills its buffers here
+      if (!current.cued) cue(current);
+      current.queue.setVolume(current.level * volume);
+      current.queue.play();
+      started = true;
+    }
+
+    float step = fadeTime > 0 ? delta / fadeTime : 1;
+    if (current != null && current.level < 1) {
+      current.level = Math.min(1, current.level + step);
+      current.queue.setVolume(current.level * volume);
+    }
+    if (fading != null) {
+      fading.level = Math.max(0, fading.level - step);
+      fading.queue.setVolume(fading.level * volume);
+      if (fading.level == 0) {
+        retire(fading);
+        fading = null;
+      }
+    }
+  }
+
+  /** Pauses the song playing, until the next song is played */
+  void pause() {
+    if (paused) return;
+    if (current != null && started) current.queue.pause();
+    if (fading != null) {
+      retire(fading);
+      fading = null;
+    }
+    started = false;
+    paused = true;
+  }
+
+  /** Stops every song, so the next one played starts over */
+  void stop() {
+    if (fading != null) {
+      retire(fading);
+      fading = null;
+    }
+    if (current != null) {
+      current.level = 0;
+      if (started || paused) {
+        current.queue.stop();
+        current.cued = false;
+        uncued.add(current);
+      }
+      current = null;
+    }
+    started = false;
+    paused = false;
+  }
+
+  /**
+   * Sets the volume of a song at full level.
+   *
+   * @param volume the volume, from 0 to 1
+   */
+  void setVolume(float volume) {
+    this.volume = volume;
+    if (current != null && started) current.queue.setVolume(current.level * volume);
+  }
+
+  /** Silences a song that has faded out, keeping its place or cueing it from the start */
+  private void retire(Track track) {
+    track.level = 0;
+    if (track.resume) {
+      track.queue.pause();
+    } else {
+      track.queue.stop();
+      track.cued = false;
+      uncued.add(track);
+    }
+  }
+
+  /** Fills the first buffers of a song, leaving it paused and silent */
+  private void cue(Track track) {
+    uncued.removeValue(track, true);
+    if (track.cued) return;
+    track.queue.setVolume(0);
+    track.queue.play();
+    track.queue.pause();
+    track.cued = true;
+  }
+}
@@ -0,0 +1,203 @@
+package edu.cornell.jade.seasthethrone.audio;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.ObjectMap;
+import edu.cornell.gdiac.audio.SoundEffect;
+
+/**
+ * Decides which sound effects actually get a voice.
+ *
+ * <p>A busy fight can trigger the same effect dozens of times in one frame, and every play takes
+ * one of the few sources OpenAL has. The mixer keeps a fixed table of voices and applies three
+ * rules before starting a new one:
+ *
+ * <ul>
+ *   <li>An effect triggered again in the frame it started plays once, a little louder, instead of
+ *       once per trigger.
+ *   <li>Each effect has a cap on the voices it may hold at once. Past it, its oldest voice is cut
+ *       off for the new one.
+ *   <li>When every voice is busy, the oldest voice of the lowest priority is stolen, provided it
+ *       is no more important than the new effect. Otherwise the new effect is dropped.
+ * </ul>
+ *
+ * <p>The mixer must only be used on the thread that plays audio.
+ */
+class SoundMixer {
+  /** Voices the mixer may hold, leaving sources of the engine free for music */
+  static final int MAX_VOICES = 12;
+
+  /** Extra volume for each doubling of the triggers merged into one voice */
+  private static final float COALESCE_GAIN = 0.15f;
+
+  /** How an effect is mixed */
+  private static class Channel {
+    /** The effect played */
+    final SoundEffect effect;
+
+    /** Volume of a single trigger */
+    final float volume;
+
+    /** Most voices the effect may hold at once */
+    final int cap;
+
+    /** Importance of the effect when voices run out; higher wins */
+    final int priority;
+
+    Channel(SoundEffect effect, float volume, int cap, int priority) {
+      this.effect = effect;
+      this.volume = volume;
+      this.cap = cap;
+      this.priority = priority;
+    }
+  }
+
+  /** Every effect that may be played, by name */
+  private final ObjectMap<String, Channel> channels;
+
+  /** Channel playing on each voice, or null if the voice is free */
+  private final Channel[] voiceChannels;
+
+  /** Id of the instance playing on each voice */
+  private final long[] voiceIds;
+
+  /** Frame each voice started in */
+  private final long[] voiceFrames;
+
+  /** Order each voice started in, to find the oldest */
+  private final long[] voiceStarts;
+
+  /** Triggers merged into each voice */
+  private final int[] voiceTriggers;
+
+  /** Volume each voice started at, before merged triggers raised it */
+  private final float[] voiceVolumes;
+
+  /** Number of voices started so far */
+  private long starts;
+
+  /** Constructs a mixer with every voice free */
+  SoundMixer() {
+    channels = new ObjectMap<>();
+    voiceChannels = new Channel[MAX_VOICES];
+    voiceIds = new long[MAX_VOICES];
+    voiceFrames = new long[MAX_VOICES];
+    voiceStarts = new long[MAX_VOICES];
+    voiceTriggers = new int[MAX_VOICES];
+    voiceVolumes = new float[MAX_VOICES];
+  }
+
+  /**
+   * Adds an effect the mixer may play.
+   *
+   * @param name the name the effect is played by
+   * @param effect the effect
+   * @param volume the volume of a single trigger, leaving room for merged triggers to be louder
+   * @param cap the most voices the effect may hold at once
+   * @param priority the importance of the effect when voices run out; higher wins
+   */
+  void add(String name, SoundEffect effect, float volume, int cap, int priority) {
+    channels.put(name, new Channel(effect, volume, cap, priority));
+  }
+
+  /**
+   * Plays an effect at full volume and centered, unless the rules above merge or drop it.
+   *
+   * @param name the name of the effect
+   * @return id of the instance the effect plays on, or -1 if it is unknown or dropped
+   */
+  long play(String name) {
+    return play(name, 1, 0);
+  }
+
+  /**
+   * Plays an effect, unless the rules above merge or drop it. A trigger merged into a voice keeps
+   * the pan of the voice.
+   *
+   * @param name the name of the effect
+   * @param gain the share of the effect's volume to play at, from 0 to 1
+   * @param pan the pan from -1 (left) to 1 (right)
+   * @return id of the instance the effect plays on, or -1 if it is unknown or dropped
+   */
+  long play(String name, float gain, float pan) {
+    Channel channel = channels.get(name);
+    if (channel == null) return -1;
+    float volume = channel.volume * gain;
+    long frame = Gdx.graphics.getFrameId();
+
+    // Free the voices that have finished, and merge with one started this frame
+    int held = 0;
+    int oldestHeld = -1;
+    for (int v = 0; v < MAX_VOICES; v++) {
+      Channel c = voiceChannels[v];
+      if (c == null) continue;
+      if (!c.effect.isPlaying(voiceIds[v])) {
+        voiceChannels[v] = null;
+        continue;
+      }
+      if (c != channel) continue;
+      if (voiceFrames[v] == frame) {
+        return merge(v, volume);
+      }
+      held++;
+      if (oldestHeld == -1 || voiceStarts[v] < voiceStarts[oldestHeld]) oldestHeld = v;
+    }
+
+    int voice;
+    if (held >= channel.cap) {
+      voice = oldestHeld;
+    } else {
+      voice = freeVoice(channel.priority);
+      if (voice == -1) return -1;
+    }
+    if (voiceChannels[voice] != null) {
+      voiceChannels[voice].effect.stop(voiceIds[voice]);
+    }
+
+    long id = channel.effect.play(volume);
+    if (id == -1) {
+      voiceChannels[voice] = null;
+      return -1;
+    }
+    if (pan != 0) channel.effect.setPan(id, pan);
+    voiceChannels[voice] = channel;
+    voiceIds[voice] = id;
+    voiceFrames[voice] = frame;
+    voiceStarts[voice] = starts++;
+    voiceTriggers[voice] = 1;
+    voiceVolumes[voice] = volume;
+    return id;
+  }
+
+  /**
+   * Merges another trigger into a voice, raising its volume to that of the louder trigger and
+   * boosting it for their number, and returns its id
+   */
+  private long merge(int voice, float volume) {
+    Channel channel = voiceChannels[voice];
+    int triggers = ++voiceTriggers[voice];
+    voiceVolumes[voice] = Math.max(voiceVolumes[voice], volume);
+    float boost = 1 + COALESCE_GAIN * (float) (Math.log(triggers) / Math.log(2));
+    channel.effect.setVolume(voiceIds[voice], Math.min(1f, voiceVolumes[voice] * boost));
+    return voiceIds[voice];
+  }
+
+  /**
+   * Returns a free voice, or else the oldest voice of the lowest priority no higher than a given
+   * one, or -1 if every voice is more important.
+   */
+  private int freeVoice(int priority) {
+    int victim = -1;
+    for (int v = 0; v < MAX_VOICES; v++) {
+      Channel c = voiceChannels[v];
+      if (c == null) return v;
+      if (c.priority > priority) continue;
+      if (victim == -1
+          || c.priority < voiceChannels[victim].priority
+          || (c.priority == voiceChannels[victim].priority
+              && voiceStarts[v] < voiceStarts[victim])) {
+        victim = v;
+      }
+    }
+    return victim;
+  }
+}
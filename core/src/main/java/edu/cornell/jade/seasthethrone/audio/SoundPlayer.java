@@ -1,11 +1,11 @@
 package edu.cornell.jade.seasthethrone.audio;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
 
 import edu.cornell.gdiac.audio.AudioEngine;
 import edu.cornell.gdiac.audio.AudioSource;
-import edu.cornell.gdiac.audio.MusicQueue;
 import edu.cornell.gdiac.audio.SoundEffect;
 import edu.cornell.jade.seasthethrone.assets.AssetDirectory;
 
@@ -15,33 +15,57 @@ import edu.cornell.jade.seasthethrone.assets.AssetDirectory;
  * Provides methods to play sound effects and music so we don't have to think.
  */
 public class SoundPlayer {
-  private AudioEngine audioEngine;
+  /** How far an emitter may be before it is culled, in half widths of the listener's view */
+  private static final float AUDIBLE_RANGE = 2f;
+
+  /** Pan of an emitter at the edge of the view, leaving some of it in the far speaker */
+  private static final float PAN_SPREAD = 0.7f;
 
-  /** Map from sound effect name to sound effect */
-  private ObjectMap<String, SoundEffect> soundEffects;
+  private AudioEngine audioEngine;
 
-  /** Map from song name to sound effect */
-  private ObjectMap<String, AudioSource> music;
+  /** Limits and merges the voices of sound effects */
+  private final SoundMixer mixer;
 
-  /** Music queue for actually playing stuff */
-  private MusicQueue musicQueue;
+  /** Crossfades between songs, or null if there is no audio engine */
+  private MusicDirector director;
 
   /** If the player has been populated */
   private boolean populated;
 
+  /** The thread which may play sounds directly, the one the player was constructed on */
+  private final Thread audioThread;
+
+  /** Sound effects requested from other threads, played by the next flush */
+  private final Array<String> deferredEffects;
+
+  /** World position of each deferred effect as x, y pairs, with x NaN if it has none */
+  private final FloatArray deferredPositions;
+
+  /** Whether positioned effects are heard from a listener, rather than all played centered */
+  private boolean listening;
+
+  /** World position of the listener */
+  private float listenerX, listenerY;
+
+  /** Half the width of the world the listener sees */
+  private float listenerHalfWidth;
+
   /**
-   * Constructs a SoundPlayer
+   * Constructs a SoundPlayer. If the backend has no audio engine (such as the
+   * headless backend) the player is silent.
    *
    * @param dir directory containing loaded json
    */
   public SoundPlayer() {
-    audioEngine = (AudioEngine) Gdx.audio;
-    soundEffects = new ObjectMap<>();
-    music = new ObjectMap<>();
+    mixer = new SoundMixer();
+    audioThread = Thread.currentThread();
+    deferredEffects = new Array<>();
+    deferredPositions = new FloatArray();
 
-    musicQueue = audioEngine.newMusicBuffer(false, 44100);
-    musicQueue.setLooping(true);
-    musicQueue.setVolume(0.5f);
+    if (Gdx.audio instanceof AudioEngine) {
+      audioEngine = (AudioEngine) Gdx.audio;
+      director = new MusicDirector(audioEngine, 0.5f);
+    }
 
     populated = false;
   }
@@ -52,24 +76,34 @@ public class SoundPlayer {
    * @param dir directory containing sounds
    */
   public void populate(AssetDirectory dir) {
-    soundEffects.put("dash", dir.getEntry("dash", SoundEffect.class));
-    soundEffects.put("door-close", dir.getEntry("door-close", SoundEffect.class));
-    soundEffects.put("enemy-hit", dir.getEntry("enemy-hit", SoundEffect.class));
-    soundEffects.put("get-ammo", dir.getEntry("get-ammo", SoundEffect.class));
-    soundEffects.put("hit-enemy-with-spear", dir.getEntry("hit-enemy-with-spear", SoundEffect.class));
-    soundEffects.put("interact", dir.getEntry("interact", SoundEffect.class));
-    soundEffects.put("shoot-bullet", dir.getEntry("shoot-bullet", SoundEffect.class));
-    soundEffects.put("player-hit", dir.getEntry("player-hit", SoundEffect.class));
-    soundEffects.put("menu-change", dir.getEntry("menu-change", SoundEffect.class));
-    soundEffects.put("menu-select", dir.getEntry("menu-select", SoundEffect.class));
-    soundEffects.put("cant-interact", dir.getEntry("cant-interact", SoundEffect.class));
-
-    music.put("music", dir.getEntry("music", AudioSource.class));
-    music.put("battle-music", dir.getEntry("battle-music", AudioSource.class));
+    // Effects fired per bullet play quieter, so merged triggers have room to be louder
+    //        name                    volume  cap  priority
+    addEffect(dir, "dash",                 1f,    1,   2);
+    addEffect(dir, "door-close",           1f,    1,   2);
+    addEffect(dir, "enemy-hit",            0.75f, 2,   1);
+    addEffect(dir, "get-ammo",             0.75f, 2,   0);
+    addEffect(dir, "hit-enemy-with-spear", 1f,    2,   2);
+    addEffect(dir, "interact",             1f,    1,   3);
+    addEffect(dir, "shoot-bullet",         0.75f, 3,   1);
+    addEffect(dir, "player-hit",           1f,    1,   3);
+    addEffect(dir, "menu-change",          1f,    2,   3);
+    addEffect(dir, "menu-select",          1f,    2,   3);
+    addEffect(dir, "cant-interact",        1f,    1,   3);
+
+    if (director != null) {
+      // The overworld picks up where it left off after a fight; the fight starts over each time
+      director.add("music", dir.getEntry("music", AudioSource.class), true);
+      director.add("battle-music", dir.getEntry("battle-music", AudioSource.class), false);
+    }
 
     populated = true;
   }
 
+  /** Adds a sound effect of the directory to the mixer */
+  private void addEffect(AssetDirectory dir, String name, float volume, int cap, int priority) {
+    mixer.add(name, dir.getEntry(name, SoundEffect.class), volume, cap, priority);
+  }
+
   /**
    * Returns if this object was ever populated, meaning poplate was called.
    *
@@ -80,38 +114,119 @@ public class SoundPlayer {
   }
 
   /**
-   * Plays a sound effect.
+   * Places the listener that positioned effects are heard from, such as the center of the camera.
+   * Effects beyond the view are quieter, and those far beyond it are not played at all.
+   *
+   * @param x the world x-coordinate of the listener
+   * @param y the world y-coordinate of the listener
+   * @param halfWidth half the width of the world the listener sees
+   */
+  public void setListener(float x, float y, float halfWidth) {
+    listenerX = x;
+    listenerY = y;
+    listenerHalfWidth = halfWidth;
+    listening = halfWidth > 0;
+  }
+
+  /**
+   * Plays a sound effect. Triggers of an effect in the same frame are merged into one louder
+   * instance, and effects past their voice limits may be dropped; see {@link SoundMixer}.
+   *
+   * <p>Called from any thread but the one this player was constructed on, such as the simulation
+   * thread, the effect is instead played by the next {@link #flushSoundEffects()}.
    *
    * @param name name of the sound effect
    * @return id of the sound if sucessful, else -1
    */
   public long playSoundEffect(String name) {
-    return soundEffects.get(name).play();
+    return playSoundEffect(name, Float.NaN, Float.NaN);
   }
 
   /**
-   * Plays music, looping, and replacing currently playing music
+   * Plays a sound effect from a place in the world, panned and attenuated by its distance from
+   * the listener. Effects too far from the listener to hear are skipped without taking a voice.
+   * Otherwise this behaves as {@link #playSoundEffect(String)}.
+   *
+   * @param name name of the sound effect
+   * @param x the world x-coordinate of the emitter, or NaN if it has no position
+   * @param y the world y-coordinate of the emitter
+   * @return id of the sound if sucessful, else -1
+   */
+  public long playSoundEffect(String name, float x, float y) {
+    if (Thread.currentThread() != audioThread) {
+      synchronized (deferredEffects) {
+        deferredEffects.add(name);
+        deferredPositions.add(x, y);
+      }
+      return -1;
+    }
+    return playAt(name, x, y);
+  }
+
+  /** Plays every sound effect requested from other threads since the last flush. */
+  public void flushSoundEffects() {
+    synchronized (deferredEffects) {
+      for (int i = 0; i < deferredEffects.size; i++) {
+        float x = deferredPositions.get(2 * i);
+        float y = deferredPositions.get(2 * i + 1);
+        playAt(deferredEffects.get(i), x, y);
+      }
+      deferredEffects.clear();
+      deferredPositions.clear();
+    }
+  }
+
+  /** Plays a sound effect through the mixer, heard from the listener if it has a position */
+  private long playAt(String name, float x, float y) {
+    if (!listening || Float.isNaN(x)) {
+      return mixer.play(name);
+    }
+    float dx = (x - listenerX) / listenerHalfWidth;
+    float dy = (y - listenerY) / listenerHalfWidth;
+    float distance = (float) Math.sqrt(dx * dx + dy * dy);
+    if (distance >= AUDIBLE_RANGE) return -1;
+
+    // Full volume within the view, fading out linearly to the edge of the audible range
+    float gain = distance <= 1 ? 1 : (AUDIBLE_RANGE - distance) / (AUDIBLE_RANGE - 1);
+    float pan = Math.max(-1, Math.min(1, dx)) * PAN_SPREAD;
+    return mixer.play(name, gain, pan);
+  }
+
+  /**
+   * Crossfades to music, looping, replacing the music playing. Asking for the song already
+   * playing does nothing.
    *
    * @param name name of the song
    */
   public void replaceCurrentMusic(String name) {
-    musicQueue.clearSources();
-    musicQueue.addSource(music.get(name));
-    musicQueue.play();
+    if (director == null) return;
+    director.play(name, MusicDirector.DEFAULT_FADE);
+  }
+
+  /**
+   * Advances music crossfades. This must be called every frame.
+   *
+   * @param delta seconds since the last frame
+   */
+  public void update(float delta) {
+    if (director == null) return;
+    director.update(delta);
   }
 
   /**
    * Pause currently playing music
    */
   public void pause() {
-    musicQueue.pause();
+    if (director == null) return;
+    director.pause();
   }
 
   /**
    * Stop currently playing music
    */
   public void stopMusic() {
-    musicQueue.clearSources();
+    if (director == null) return;
+    director.stop();
   }
 
 }
@@ -12,7 +12,7 @@ import edu.cornell.jade.seasthethrone.util.PooledList;
 public abstract class AttackPattern {
 
   /** Distance to render bullets from */
-  private static float RENDER_DISTANCE = 100f;
+  static float RENDER_DISTANCE = 100f;
 
   /** If the attack pattern has been cleaned up to be removed */
   private boolean cleanedUp;
@@ -36,8 +36,11 @@ public abstract class AttackPattern {
    * @param py player y coordinate
    */
   public void update(float px, float py) {
-    if (cleanedUp)
+    if (cleanedUp) {
+      // bullets marked by cleanup are only released after a physics step
+      freeRemoved();
       return;
+    }
 
     animateStep();
     for (Spawner p : spawners) {
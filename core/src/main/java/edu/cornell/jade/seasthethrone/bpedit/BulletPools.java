@@ -0,0 +1,98 @@
+package edu.cornell.jade.seasthethrone.bpedit;
+
+import com.badlogic.gdx.utils.Array;
+
+import edu.cornell.jade.seasthethrone.gamemodel.BulletModelPool;
+
+/**
+ * The bullet model and bullet family pools of a single level.
+ *
+ * Every {@link Spawner} created for the level is tracked so the pools can be
+ * pre-warmed to the most bullets the level's attacks are expected to have alive
+ * at once. Pools keep at most a fixed number of free objects, and let go of all
+ * of them with {@link #trim()} when the level is left.
+ */
+public class BulletPools {
+  /** Most free bullet models kept by the pool */
+  public static final int MAX_FREE_BULLETS = 1024;
+
+  /** Most free bullet families kept by the pool */
+  public static final int MAX_FREE_FAMILIES = 256;
+
+  /** Pool of bullet models */
+  private final BulletModelPool modelPool;
+
+  /** Pool of bullet families */
+  private final BulletFamilyPool familyPool;
+
+  /** Spawners created for the level which have not been measured yet */
+  private final Array<Spawner> spawners;
+
+  /** Number of bullet models to pre-warm the pool to */
+  private int expectedBullets;
+
+  /** Number of bullet families to pre-warm the pool to */
+  private int expectedFamilies;
+
+  /** Constructs empty pools */
+  public BulletPools() {
+    modelPool = new BulletModelPool(100, MAX_FREE_BULLETS);
+    familyPool = new BulletFamilyPool(100, MAX_FREE_FAMILIES);
+    spawners = new Array<>();
+  }
+
+  /** Returns the pool of bullet models */
+  public BulletModelPool getModelPool() {
+    return modelPool;
+  }
+
+  /** Returns the pool of bullet families */
+  public BulletFamilyPool getFamilyPool() {
+    return familyPool;
+  }
+
+  /**
+   * Starts tracking the spawners of a freshly loaded level. Spawners from a
+   * previous load of the level are forgotten.
+   */
+  public void beginLevel() {
+    spawners.clear();
+  }
+
+  /**
+   * Tracks a spawner drawing from these pools, so it is counted by the next
+   * {@link #prewarm()}.
+   *
+   * @param spawner the spawner to track
+   */
+  public void track(Spawner spawner) {
+    spawners.add(spawner);
+  }
+
+  /**
+   * Fills the pools up to the peak number of objects expected to be in use at
+   * once. The peak is measured from the spawners tracked since the last call, or
+   * kept from an earlier load of the level if there are none.
+   */
+  public void prewarm() {
+    if (spawners.notEmpty()) {
+      expectedBullets = 0;
+      expectedFamilies = 0;
+      for (Spawner s : spawners) {
+        expectedBullets += s.estimatePeakBullets();
+        expectedFamilies += s.estimatePeakFamilies();
+      }
+      spawners.clear();
+    }
+    int bullets = Math.min(expectedBullets, MAX_FREE_BULLETS) - modelPool.getFree();
+    if (bullets > 0) modelPool.fill(bullets);
+    int families = Math.min(expectedFamilies, MAX_FREE_FAMILIES) - familyPool.getFree();
+    if (families > 0) familyPool.fill(families);
+  }
+
+  /** Discards every free object, releasing the native shapes of free bullets. */
+  public void trim() {
+    modelPool.clear();
+    familyPool.clear();
+  }
+}
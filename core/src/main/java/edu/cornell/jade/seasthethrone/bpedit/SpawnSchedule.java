@@ -0,0 +1,370 @@
+package edu.cornell.jade.seasthethrone.bpedit;
+
+import java.util.Random;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+
+import edu.cornell.jade.seasthethrone.bpedit.Spawner.BulletFamily;
+import edu.cornell.jade.seasthethrone.bpedit.Spawner.DelayedAction;
+import edu.cornell.jade.seasthethrone.bpedit.Spawner.Effect;
+
+/**
+ * A table of bullets to spawn, compiled ahead of time from a {@link BulletFamily}
+ * and its effects.
+ *
+ * Each entry is a tick offset along with the position and velocity of a bullet
+ * relative to the spawner. A periodic schedule replays its table every
+ * <code>period</code> ticks, so spawning a bullet is a lookup into the table
+ * instead of cloning families and expanding effects at runtime.
+ *
+ * Only effects which do not depend on the game state when they are applied can
+ * be compiled, see {@link Effect#compile(Compiler)}. Other families are spawned
+ * through the {@link Spawner}'s heap as before.
+ */
+public final class SpawnSchedule {
+  /**
+   * Follows the effects of a bullet family in order, tracking the rotation of
+   * every bullet they would create.
+   */
+  public static final class Compiler {
+    /** The angle every bullet is rotated by */
+    private final FloatArray angles;
+
+    /** The spray group of every bullet, or -1 if it is not sprayed */
+    private final IntArray groups;
+
+    /** Full angle range of every spray group */
+    private final FloatArray sprayRanges;
+
+    /** Random number generator of every spray group */
+    private final Array<Random> sprayRands;
+
+    /** Ticks between repetitions, or 0 if the family only fires once */
+    private int period;
+
+    /** If bullets are only being counted, so sprays must not draw angles */
+    private boolean counting;
+
+    /** Constructs a compiler */
+    public Compiler() {
+      angles = new FloatArray();
+      groups = new IntArray();
+      sprayRanges = new FloatArray();
+      sprayRands = new Array<>();
+    }
+
+    /**
+     * Duplicates every bullet into an arc.
+     *
+     * @param offset       offset from the initial rotation to start the arc in
+     *                     radians
+     * @param centralAngle size of the arc in radians
+     * @param dups         number of bullets in the arc
+     */
+    public void arc(float offset, float centralAngle, int dups) {
+      int n = angles.size;
+      for (int i = 0; i < n; i++) {
+        for (int j = 0; j < dups; j++) {
+          angles.add(angles.get(i) + j * centralAngle / (dups - 1) + offset);
+          groups.add(groups.get(i));
+        }
+      }
+      angles.removeRange(0, n - 1);
+      groups.removeRange(0, n - 1);
+    }
+
+    /**
+     * Repeats every bullet after a given number of ticks.
+     *
+     * @param ticks number of ticks between repetitions
+     * @return false if the bullets already repeat, which cannot be compiled
+     */
+    public boolean periodic(int ticks) {
+      if (period != 0 || ticks <= 0)
+        return false;
+      period = ticks;
+      return true;
+    }
+
+    /**
+     * Rotates every bullet by a random angle. Before the bullets repeat the angle
+     * is fixed, so it is drawn now. Afterwards it is drawn again every period.
+     *
+     * @param angleRange the full angle the bullets can spray in (radians)
+     * @param rand       the random number generator to draw angles from
+     * @return false if a bullet is already sprayed every period, which cannot be
+     *         compiled
+     */
+    public boolean spray(float angleRange, Random rand) {
+      for (int i = 0; i < angles.size; i++) {
+        if (period == 0) {
+          // Drawing while counting would shift the angles of every later spray
+          if (!counting)
+            angles.incr(i, rand.nextFloat(-angleRange / 2, angleRange / 2));
+        } else {
+          if (groups.get(i) != -1)
+            return false;
+          groups.set(i, sprayRanges.size);
+          sprayRanges.add(angleRange);
+          sprayRands.add(rand);
+        }
+      }
+      return true;
+    }
+
+    /** Returns the number of bullets tracked, which fire once per period */
+    public int getBullets() {
+      return angles.size;
+    }
+
+    /** Returns the ticks between repetitions, or 0 if the bullets fire once */
+    public int getPeriod() {
+      return period;
+    }
+
+    /**
+     * Counts the bullets of a bullet family and their period, leaving its spray
+     * generators untouched. Effects which cannot be compiled are skipped, as if
+     * they left the bullets unchanged.
+     *
+     * @param f the family to count
+     */
+    public void count(BulletFamily f) {
+      counting = true;
+      follow(f, true);
+      counting = false;
+    }
+
+    /**
+     * Follows the effects of a bullet family in order.
+     *
+     * @param f       the family to follow
+     * @param lenient if effects which cannot be compiled should be skipped, as
+     *                if they left the bullets unchanged
+     * @return if every effect was followed
+     */
+    private boolean follow(BulletFamily f, boolean lenient) {
+      angles.clear();
+      groups.clear();
+      sprayRanges.clear();
+      sprayRands.clear();
+      period = 0;
+      angles.add(0);
+      groups.add(-1);
+      for (Effect e : f.effect) {
+        if (!e.compile(this) && !lenient)
+          return false;
+      }
+      return true;
+    }
+
+    /**
+     * Compiles a bullet family, adding its bullets to a compatible schedule or a
+     * new one.
+     *
+     * @param f         the family to compile
+     * @param schedules the schedules of the spawner
+     * @return if the family could be compiled
+     */
+    public boolean compile(BulletFamily f, Array<SpawnSchedule> schedules) {
+      if (!follow(f, false))
+        return false;
+
+      SpawnSchedule target = null;
+      for (SpawnSchedule s : schedules) {
+        if (s.accepts(period, f.timestamp)) {
+          target = s;
+          break;
+        }
+      }
+      if (target == null) {
+        target = new SpawnSchedule(period);
+        schedules.add(target);
+      }
+      target.add(this, f);
+      return true;
+    }
+  }
+
+  /** Ticks between repetitions of the table, or 0 if it only plays once */
+  private final int period;
+
+  /** Tick offset of every entry, sorted */
+  private final IntArray ticks;
+
+  /** x coordinate of every entry relative to the spawner */
+  private final FloatArray x;
+
+  /** y coordinate of every entry relative to the spawner */
+  private final FloatArray y;
+
+  /** x velocity of every entry */
+  private final FloatArray vx;
+
+  /** y velocity of every entry */
+  private final FloatArray vy;
+
+  /** Radius of every entry */
+  private final FloatArray radius;
+
+  /** Spray group of every entry, or -1 if it is not sprayed */
+  private final IntArray group;
+
+  /** Delayed actions to clone onto the bullet of every entry */
+  private final Array<Array<DelayedAction>> actions;
+
+  /** Full angle range of every spray group */
+  private final FloatArray sprayRanges;
+
+  /** Random number generator of every spray group */
+  private final Array<Random> sprayRands;
+
+  /** The angle drawn for every spray group this period */
+  private final FloatArray sprayAngles;
+
+  /** Tick at which the current period started */
+  private int base;
+
+  /** The next entry to spawn */
+  private int cursor;
+
+  /** If any entry has been spawned */
+  private boolean started;
+
+  /**
+   * Constructs an empty schedule.
+   *
+   * @param period ticks between repetitions, or 0 to only play once
+   */
+  private SpawnSchedule(int period) {
+    this.period = period;
+    ticks = new IntArray();
+    x = new FloatArray();
+    y = new FloatArray();
+    vx = new FloatArray();
+    vy = new FloatArray();
+    radius = new FloatArray();
+    group = new IntArray();
+    actions = new Array<>();
+    sprayRanges = new FloatArray();
+    sprayRands = new Array<>();
+    sprayAngles = new FloatArray();
+  }
+
+  /**
+   * Returns if bullets with a given period and offset can share this table. All
+   * entries of one period must spawn before the next period starts.
+   */
+  private boolean accepts(int period, int tick) {
+    if (started || period != this.period)
+      return false;
+    if (period == 0 || ticks.isEmpty())
+      return true;
+    int min = Math.min(ticks.first(), tick);
+    int max = Math.max(ticks.peek(), tick);
+    return max - min < period;
+  }
+
+  /** Adds the bullets tracked by a compiler for a given family. */
+  private void add(Compiler c, BulletFamily f) {
+    int groupBase = sprayRanges.size;
+    sprayRanges.addAll(c.sprayRanges);
+    sprayRands.addAll(c.sprayRands);
+    sprayAngles.setSize(sprayRanges.size);
+
+    // keep entries sorted by tick
+    int at = 0;
+    while (at < ticks.size && ticks.get(at) <= f.timestamp)
+      at++;
+    for (int i = 0; i < c.angles.size; i++, at++) {
+      float cos = MathUtils.cos(c.angles.get(i));
+      float sin = MathUtils.sin(c.angles.get(i));
+      ticks.insert(at, f.timestamp);
+      x.insert(at, f.bx * cos - f.by * sin);
+      y.insert(at, f.bx * sin + f.by * cos);
+      vx.insert(at, f.bvx * cos - f.bvy * sin);
+      vy.insert(at, f.bvx * sin + f.bvy * cos);
+      radius.insert(at, f.radius);
+      int g = c.groups.get(i);
+      group.insert(at, g == -1 ? -1 : g + groupBase);
+      actions.insert(at, f.delayedActions);
+    }
+  }
+
+  /**
+   * Returns the tick at which the next entry spawns.
+   *
+   * @return the tick of the next entry, or {@link Integer#MAX_VALUE} if the
+   *         schedule is done
+   */
+  public int peekTime() {
+    if (isDone())
+      return Integer.MAX_VALUE;
+    return base + ticks.get(cursor);
+  }
+
+  /**
+   * Advances past the next entry. Spray angles are drawn when a period starts.
+   *
+   * @return the index of the entry to spawn
+   */
+  public int pop() {
+    if (cursor == 0) {
+      for (int g = 0; g < sprayRanges.size; g++) {
+        float range = sprayRanges.get(g);
+        sprayAngles.set(g, sprayRands.get(g).nextFloat(-range / 2, range / 2));
+      }
+    }
+    started = true;
+    int i = cursor++;
+    if (cursor == ticks.size && period > 0) {
+      cursor = 0;
+      base += period;
+    }
+    return i;
+  }
+
+  /** Returns if every entry has been spawned and the table does not repeat */
+  public boolean isDone() {
+    return cursor == ticks.size;
+  }
+
+  /** Returns the x coordinate of an entry relative to the spawner */
+  public float getX(int i) {
+    return x.get(i);
+  }
+
+  /** Returns the y coordinate of an entry relative to the spawner */
+  public float getY(int i) {
+    return y.get(i);
+  }
+
+  /** Returns the x velocity of an entry */
+  public float getVX(int i) {
+    return vx.get(i);
+  }
+
+  /** Returns the y velocity of an entry */
+  public float getVY(int i) {
+    return vy.get(i);
+  }
+
+  /** Returns the radius of an entry */
+  public float getRadius(int i) {
+    return radius.get(i);
+  }
+
+  /** Returns the spray angle of an entry this period, in radians */
+  public float getSprayAngle(int i) {
+    int g = group.get(i);
+    return g == -1 ? 0 : sprayAngles.get(g);
+  }
+
+  /** Returns the delayed actions to clone onto the bullet of an entry */
+  public Array<DelayedAction> getActions(int i) {
+    return actions.get(i);
+  }
+}
@@ -5,6 +5,8 @@ import java.util.Iterator;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.BinaryHeap;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ObjectMap;
 import com.badlogic.gdx.utils.ObjectSet;
 import com.badlogic.gdx.utils.Pool;
 import com.badlogic.gdx.utils.Pool.Poolable;
@@ -14,6 +16,7 @@ import edu.cornell.jade.seasthethrone.gamemodel.BulletModel;
 import edu.cornell.jade.seasthethrone.gamemodel.BulletModelPool;
 import edu.cornell.jade.seasthethrone.model.Model;
 import edu.cornell.jade.seasthethrone.physics.PhysicsEngine;
+import edu.cornell.jade.seasthethrone.physics.SpatialHashGrid;
 
 /**
  * Stores a bullet pattern. This is sourse of bullets which, at a given an
@@ -46,6 +49,18 @@ public class Spawner {
      * @param basePool   an object pool to create new base bullets
      */
     public void apply(Array<BulletFamily> bullets, Pool<BulletFamily> familyPool, Pool<BulletModel> basePool);
+
+    /**
+     * Describes the effect to a compiler building a {@link SpawnSchedule} ahead of
+     * time. Effects which depend on the game state when they are applied cannot
+     * be compiled and should keep this default.
+     *
+     * @param compiler the compiler to describe the effect to
+     * @return if the effect could be compiled
+     */
+    public default boolean compile(SpawnSchedule.Compiler compiler) {
+      return false;
+    }
   }
 
   /**
@@ -66,6 +81,15 @@ public class Spawner {
     /** The bullet model to modify */
     protected BulletModel model;
 
+    /** The next action on the same bullet model, or null if this is the last */
+    private DelayedAction nextForModel;
+
+    /** Index in the spawner's list of indefinite actions, or -1 if not in it */
+    private int indefiniteIndex = -1;
+
+    /** If the action is waiting in the spawner's heap */
+    private boolean scheduled;
+
     /**
      * Sets the bullet model to modify.
      *
@@ -517,14 +541,35 @@ public class Spawner {
   /** The list of bullets in the pattern currently not created. */
   private BinaryHeap<BulletFamily> curBullets;
 
-  /** The heap of delayed actions yet to have been applied. */
+  /** Bullet families compiled ahead of time into spawn tables */
+  private Array<SpawnSchedule> schedules;
+
+  /** Compiler used to turn added families into spawn tables */
+  private SpawnSchedule.Compiler compiler;
+
+  /** Spawner updates per second, used to estimate how long bullets live */
+  private static final float TICKS_PER_SECOND = 60f;
+
+  /** Longest a bullet is assumed to live in ticks, for bullets which stay near */
+  private static final float MAX_LIFETIME_TICKS = 600f;
+
+  /** Estimate of the most bullets from this spawner alive at once */
+  private int peakBullets;
+
+  /** Estimate of the most bullet families this spawner has in use at once */
+  private int peakFamilies;
+
+  /** The heap of one-shot delayed actions yet to have been applied. */
   private BinaryHeap<DelayedAction> delayedActions;
 
+  /** Delayed actions applied every tick until their bullet is freed */
+  private Array<DelayedAction> indefiniteActions;
+
   /**
-   * a list of delayed actions yet to have been applied. Invariant: the lists
-   * contents should be the same as the heap
+   * The most recently added delayed action of every bullet. The rest of a
+   * bullet's actions are chained through <code>nextForModel</code>.
    */
-  private ObjectSet<DelayedAction> delayedActionsList;
+  private ObjectMap<BulletModel, DelayedAction> actionsByBullet;
 
   /** Cache array to apply effects */
   private Array<BulletFamily> bulletFamilyCache;
@@ -550,8 +595,8 @@ public class Spawner {
   /** cache array to store bullets to remove */
   private Array<BulletModel> bulletRemoveCache;
 
-  /** cache array to store DelayedActions to remove */
-  private Array<DelayedAction> delayedActionRemoveCache;
+  /** cache array to store grid indices of far away bullets */
+  private IntArray farCache;
 
   /**
    * The current rotation of the spawner. Rotations are relative to the spawner's
@@ -562,8 +607,6 @@ public class Spawner {
   /** If bullets from this spawner should be unbreakable */
   private boolean unbreakable;
 
-  private final Array<DelayedAction> delayedActionCache;
-
   /**
    * Constructs a <code>Spawner<code>.
    *
@@ -576,9 +619,11 @@ public class Spawner {
       BulletModelPool bulletModelPool) {
     timer = 0;
     curBullets = new BinaryHeap<>();
+    schedules = new Array<>();
+    compiler = new SpawnSchedule.Compiler();
     bulletFamilyCache = new Array<>();
     bulletRemoveCache = new Array<>();
-    delayedActionRemoveCache = new Array<>();
+    farCache = new IntArray();
     this.bulletFamilyPool = bulletFamilyPool;
     this.bulletBasePool = bulletModelPool;
     x = 0;
@@ -586,9 +631,9 @@ public class Spawner {
     this.physicsEngine = physicsEngine;
     this.added = new ObjectSet<>();
     this.delayedActions = new BinaryHeap<>();
-    this.delayedActionsList = new ObjectSet<>();
+    this.indefiniteActions = new Array<>();
+    this.actionsByBullet = new ObjectMap<>();
     this.bulletBuilder = bulletBuilder;
-    this.delayedActionCache = new Array<>();
   }
 
   /**
@@ -609,12 +654,55 @@ public class Spawner {
   }
 
   /**
-   * Adds a {@link BulletFamily} to list of uncreated bullets
+   * Adds a {@link BulletFamily} to list of uncreated bullets. Families whose
+   * effects can all be compiled are turned into a {@link SpawnSchedule} right
+   * away, so the family should not be changed after it is added.
    *
    * @param family bullet family to add
    */
   public void addFamily(BulletFamily family) {
-    curBullets.add(family);
+    boolean compiled = compiler.compile(family, schedules);
+    estimatePeak(family);
+    if (!compiled) {
+      curBullets.add(family);
+      peakFamilies += compiler.getBullets() + 1;
+    }
+  }
+
+  /**
+   * Adds the bullets a family keeps alive at once to the peak estimate. A bullet
+   * is assumed to live until it has travelled out of render distance.
+   *
+   * @param f the family being added
+   */
+  private void estimatePeak(BulletFamily f) {
+    compiler.count(f);
+    float speed = (float) Math.sqrt(f.bvx * f.bvx + f.bvy * f.bvy);
+    float lifetime = MAX_LIFETIME_TICKS;
+    if (speed > 0)
+      lifetime = Math.min(lifetime, AttackPattern.RENDER_DISTANCE * TICKS_PER_SECOND / speed);
+    int period = compiler.getPeriod();
+    int alive = period > 0 ? (int) Math.ceil(lifetime / period) : 1;
+    peakBullets += compiler.getBullets() * alive;
+  }
+
+  /**
+   * Returns an estimate of the most bullets from this spawner alive at once.
+   *
+   * @return the estimated peak number of live bullets
+   */
+  public int estimatePeakBullets() {
+    return peakBullets;
+  }
+
+  /**
+   * Returns an estimate of the most bullet families this spawner has in use at
+   * once. Only families which could not be compiled use the pool.
+   *
+   * @return the estimated peak number of bullet families
+   */
+  public int estimatePeakFamilies() {
+    return peakFamilies;
   }
 
   /**
@@ -639,13 +727,11 @@ public class Spawner {
   private void applyDelayedActions(float px, float py) {
     while (!delayedActions.isEmpty() && delayedActions.peek().getValue() < timer) {
       var act = delayedActions.pop();
+      act.scheduled = false;
       act.apply(px, py);
-      if (act.delay == DelayedAction.NEVER_REMOVE)
-        delayedActionCache.add(act);
     }
-    for (var act : delayedActionCache)
-      delayedActions.add(act);
-    delayedActionCache.clear();
+    for (int i = 0; i < indefiniteActions.size; i++)
+      indefiniteActions.get(i).apply(px, py);
   }
 
   /**
@@ -704,7 +790,13 @@ public class Spawner {
    * @return if another bullet could possibly be created
    */
   public boolean doneCreating() {
-    return curBullets.isEmpty();
+    if (!curBullets.isEmpty())
+      return false;
+    for (SpawnSchedule s : schedules) {
+      if (!s.isDone())
+        return false;
+    }
+    return true;
   }
 
   /**
@@ -716,12 +808,27 @@ public class Spawner {
    *          removal
    */
   public void removeFarFrom(float x, float y, float d) {
-    for (BulletModel b : added) {
-      if (b.getPosition().dst(x, y) > d) {
+    SpatialHashGrid<BulletModel> grid = physicsEngine.getBulletGrid();
+    if (grid == null) {
+      for (BulletModel b : added) {
+        if (b.getPosition().dst(x, y) > d) {
+          b.markRemoved(true);
+        }
+      }
+      freeRemovedBullets();
+      return;
+    }
+
+    // Only bullets the grid saw outside the radius can be far, but the grid is
+    // a step old so confirm against the current position
+    farCache.clear();
+    grid.queryOutsideCircle(x, y, d, farCache);
+    for (int i = 0; i < farCache.size; i++) {
+      BulletModel b = grid.get(farCache.get(i));
+      if (added.contains(b) && b.getPosition().dst(x, y) > d) {
         b.markRemoved(true);
       }
     }
-    physicsEngine.removeMarked();
     freeRemovedBullets();
   }
 
@@ -732,50 +839,84 @@ public class Spawner {
     for (BulletModel b : added) {
       b.markRemoved(true);
     }
-    physicsEngine.removeMarked();
     freeRemovedBullets();
   }
 
   /**
-   * Frees all bullets marked as removed.
+   * Frees all bullets marked as removed. Bullets are removed from the physics
+   * engine once per step, so a marked bullet is only freed once the physics
+   * engine has let go of it.
    */
   public void freeRemovedBullets() {
     for (BulletModel b : added) {
-      if (b.isRemoved()) {
+      if (b.isRemoved() && !physicsEngine.contains(b)) {
         bulletRemoveCache.add(b);
-        // hopefully there are few enough delayed actions this is fine but
-        // consider optimizing
-        for (DelayedAction a : delayedActionsList) {
-          if (a.model == b) {
-            delayedActionRemoveCache.add(a);
-          }
-        }
-        for (DelayedAction a : delayedActionRemoveCache) {
-          delayedActionsList.remove(a);
-        }
-        delayedActionRemoveCache.clear();
       }
     }
     for (BulletModel b : bulletRemoveCache) {
+      removeDelayedActions(b);
       added.remove(b);
       bulletBasePool.free(b);
     }
     bulletRemoveCache.clear();
   }
 
+  /**
+   * Drops every delayed action of a bullet, so nothing is applied to it once it
+   * has been returned to the pool. Takes time proportional to the number of
+   * actions on that bullet.
+   *
+   * @param b the bullet whose actions are removed
+   */
+  private void removeDelayedActions(BulletModel b) {
+    DelayedAction a = actionsByBullet.remove(b);
+    while (a != null) {
+      if (a.scheduled) {
+        delayedActions.remove(a);
+        a.scheduled = false;
+      }
+      if (a.indefiniteIndex >= 0) {
+        // swap the last indefinite action into this one's place
+        DelayedAction last = indefiniteActions.pop();
+        if (last != a) {
+          indefiniteActions.set(a.indefiniteIndex, last);
+          last.indefiniteIndex = a.indefiniteIndex;
+        }
+        a.indefiniteIndex = -1;
+      }
+      DelayedAction next = a.nextForModel;
+      a.nextForModel = null;
+      a.model = null;
+      a = next;
+    }
+  }
+
   /**
    * Adds bullets which have yet to be added to the physicsEngine.
    */
   private void addBullets() {
     while (hasNext()) {
-      BulletModel b = next();
-      assert b != null;
-      assert !Float.isNaN(b.getX()) && !Float.isNaN(b.getY());
-      physicsEngine.addObject(b);
-      added.add(b);
+      addBullet(next());
+    }
+    for (SpawnSchedule s : schedules) {
+      while (s.peekTime() <= timer) {
+        addBullet(nextScheduled(s));
+      }
     }
   }
 
+  /**
+   * Adds a created bullet to the physicsEngine.
+   *
+   * @param b the bullet to add
+   */
+  private void addBullet(BulletModel b) {
+    assert b != null;
+    assert !Float.isNaN(b.getX()) && !Float.isNaN(b.getY());
+    physicsEngine.addObject(b);
+    added.add(b);
+  }
+
   /**
    * Returns x coordinate of the <code>Spawner</code>
    *
@@ -805,26 +946,82 @@ public class Spawner {
     assert hasNext();
     BulletFamily f = curBullets.pop();
     f.rotate(rotation, 0, 0);
+    BulletModel m = constructBullet(f.bx, f.by, f.bvx, f.bvy, f.radius);
+    for (DelayedAction a : f.delayedActions) {
+      addDelayedAction(a, m, f.timestamp);
+    }
+
+    bulletFamilyPool.free(f);
+    return m;
+  }
+
+  /**
+   * Returns the next bullet of a spawn schedule. Requires the schedule to have a
+   * bullet due.
+   *
+   * @param s the schedule to spawn from
+   * @return the bullet of the schedule's next entry
+   */
+  private BulletModel nextScheduled(SpawnSchedule s) {
+    int timestamp = s.peekTime();
+    int i = s.pop();
+    float theta = rotation + s.getSprayAngle(i);
+    float cos = MathUtils.cos(theta);
+    float sin = MathUtils.sin(theta);
+    float bx = s.getX(i), by = s.getY(i);
+    float bvx = s.getVX(i), bvy = s.getVY(i);
+    BulletModel m = constructBullet(bx * cos - by * sin, bx * sin + by * cos, bvx * cos - bvy * sin,
+        bvx * sin + bvy * cos, s.getRadius(i));
+    for (DelayedAction a : s.getActions(i)) {
+      addDelayedAction(a.clone(), m, timestamp);
+    }
+    return m;
+  }
+
+  /**
+   * Constructs a bullet at an offset from the spawner.
+   *
+   * @param bx     x coordinate relative to the spawner
+   * @param by     y coordinate relative to the spawner
+   * @param bvx    x component of the velocity
+   * @param bvy    y component of the velocity
+   * @param radius radius of the bullet
+   * @return the constructed bullet
+   */
+  private BulletModel constructBullet(float bx, float by, float bvx, float bvy, float radius) {
     bulletBuilder
-        .setX(f.bx + x)
-        .setY(f.by + y)
-        .setVX(f.bvx)
-        .setVY(f.bvy)
-        .setRadius(f.radius);
+        .setX(bx + x)
+        .setY(by + y)
+        .setVX(bvx)
+        .setVY(bvy)
+        .setRadius(radius);
     if (unbreakable)
       bulletBuilder.setType(BulletModel.Builder.Type.UNBREAKABLE);
     BulletModel m = BulletModel.construct(bulletBuilder, bulletBasePool);
     bulletBuilder.setType(BulletModel.Builder.Type.DEFAULT);
-    for (DelayedAction a : f.delayedActions) {
-      a.setModel(m);
-      delayedActions.add(a, a.delay + f.timestamp);
-      delayedActionsList.add(a);
-    }
-
-    bulletFamilyPool.free(f);
     return m;
   }
 
+  /**
+   * Schedules a delayed action on a newly created bullet.
+   *
+   * @param a         the action, which must not be scheduled on any other bullet
+   * @param m         the bullet to modify
+   * @param timestamp the timestamp the bullet was created at
+   */
+  private void addDelayedAction(DelayedAction a, BulletModel m, int timestamp) {
+    a.setModel(m);
+    if (a.delay == DelayedAction.NEVER_REMOVE) {
+      a.indefiniteIndex = indefiniteActions.size;
+      indefiniteActions.add(a);
+    } else {
+      delayedActions.add(a, a.delay + timestamp);
+      a.scheduled = true;
+    }
+    a.nextForModel = actionsByBullet.get(m);
+    actionsByBullet.put(m, a);
+  }
+
   /**
    * Returns if there is a bullet to return at the current timestamp.
    *
@@ -2,6 +2,7 @@ package edu.cornell.jade.seasthethrone.bpedit.patterns;
 
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
+import edu.cornell.jade.seasthethrone.bpedit.SpawnSchedule;
 import edu.cornell.jade.seasthethrone.bpedit.Spawner.Effect;
 import edu.cornell.jade.seasthethrone.bpedit.Spawner;
 import edu.cornell.jade.seasthethrone.bpedit.Spawner.BulletFamily;
@@ -11,6 +12,7 @@ import edu.cornell.jade.seasthethrone.gamemodel.boss.BossModel;
 import com.badlogic.gdx.utils.*;
 import edu.cornell.jade.seasthethrone.model.Model;
 
+import edu.cornell.jade.seasthethrone.util.SeededRandom;
 import java.util.Random;
 
 /** Creates an arc of bullets. */
@@ -48,6 +50,12 @@ class Arc implements Effect {
       orig.markInactive();
     }
   }
+
+  @Override
+  public boolean compile(SpawnSchedule.Compiler compiler) {
+    compiler.arc(offset, centralAngle, dups);
+    return true;
+  }
 }
 
 /**
@@ -77,6 +85,11 @@ class Periodic implements Effect {
       bullets.add(b);
     }
   }
+
+  @Override
+  public boolean compile(SpawnSchedule.Compiler compiler) {
+    return compiler.periodic(ticks);
+  }
 }
 
 /**
@@ -158,7 +171,7 @@ class RandomSpray implements Effect {
    */
   public RandomSpray(float angleRange) {
     this.angleRange = angleRange;
-    this.rand = new Random();
+    this.rand = SeededRandom.newRandom();
   }
 
   @Override
@@ -169,6 +182,11 @@ class RandomSpray implements Effect {
       orig.rotate(rand.nextFloat(-angleRange/2, angleRange/2), 0, 0);
     }
   }
+
+  @Override
+  public boolean compile(SpawnSchedule.Compiler compiler) {
+    return compiler.spray(angleRange, rand);
+  }
 }
 
 
@@ -2,11 +2,10 @@ package edu.cornell.jade.seasthethrone.bpedit.patterns;
 
 import com.badlogic.gdx.math.MathUtils;
 
-import edu.cornell.jade.seasthethrone.bpedit.BulletFamilyPool;
+import edu.cornell.jade.seasthethrone.bpedit.BulletPools;
 import edu.cornell.jade.seasthethrone.bpedit.Spawner;
 import edu.cornell.jade.seasthethrone.bpedit.Spawner.BulletFamily;
 import edu.cornell.jade.seasthethrone.gamemodel.BulletModel;
-import edu.cornell.jade.seasthethrone.gamemodel.BulletModelPool;
 import edu.cornell.jade.seasthethrone.gamemodel.boss.BossModel;
 import edu.cornell.jade.seasthethrone.gamemodel.player.PlayerModel;
 import edu.cornell.jade.seasthethrone.physics.PhysicsEngine;
@@ -18,11 +17,19 @@ import edu.cornell.jade.seasthethrone.bpedit.Spawner.DelayedTarget;
  */
 public final class SpawnerFactory {
 
-  // FIXME: this is pretty evil just having static global pools here
-  // really we should make these all non-static and then instantiate in gameplay
-  // controller and pass stuff down
-  public static BulletModelPool bulletModelPool = new BulletModelPool(100, Integer.MAX_VALUE);
-  public static BulletFamilyPool bulletFamilyPool = new BulletFamilyPool(100, Integer.MAX_VALUE);
+  /**
+   * Constructs an empty spawner drawing from the bullet pools of the physics
+   * engine's level. The spawner is tracked so the pools can be pre-warmed.
+   *
+   * @param builder       a builder to create bullet models
+   * @param physicsEngine {@link PhysicsEngine} to add bullets to
+   */
+  private static Spawner newSpawner(BulletModel.Builder builder, PhysicsEngine physicsEngine) {
+    BulletPools pools = physicsEngine.getBulletPools();
+    Spawner out = new Spawner(builder, physicsEngine, pools.getFamilyPool(), pools.getModelPool());
+    pools.track(out);
+    return out;
+  }
 
   /**
    * Constructs a single repeatedly shooting bullet whose origin
@@ -36,7 +43,7 @@ public final class SpawnerFactory {
    */
   public static Spawner constructRepeatingRing(int dups, int delay, float vel,  BulletModel.Builder builder,
       PhysicsEngine physicsEngine) {
-    Spawner out = new Spawner(builder, physicsEngine, bulletFamilyPool, bulletModelPool);
+    Spawner out = newSpawner(builder, physicsEngine);
     BulletFamily f = new BulletFamily(1f, 0f, vel, 0f, 0.5f, 0);
     f.addEffect(new Arc(0, MathUtils.PI * 2, dups));
     f.addEffect(new Periodic(delay));
@@ -61,7 +68,7 @@ public final class SpawnerFactory {
    */
   public static Spawner constructOscillatingRing(int dups, int delay, int oscilationDelay, int pauseTime, int sleepTime,
       BulletModel.Builder builder, PhysicsEngine physicsEngine) {
-    Spawner out = new Spawner(builder, physicsEngine, bulletFamilyPool, bulletModelPool);
+    Spawner out = newSpawner(builder, physicsEngine);
     int ringsPerPeriod = oscilationDelay / dups;
     for (int i = 0; i <= ringsPerPeriod; i++) {
       BulletFamily f = new BulletFamily(1f, 0f, 5f, 5f, 0.5f, i * delay);
@@ -88,7 +95,7 @@ public final class SpawnerFactory {
    */
   public static Spawner constructRepeatingLeftFacingStream(int delay, BulletModel.Builder builder,
       PhysicsEngine physicsEngine) {
-    Spawner out = new Spawner(builder, physicsEngine, bulletFamilyPool, bulletModelPool);
+    Spawner out = newSpawner(builder, physicsEngine);
     BulletFamily f = new BulletFamily(0f, 0f, 14f, 0f, 0.5f, 0);
     f.addEffect(new Periodic(delay));
     out.addFamily(f);
@@ -104,7 +111,7 @@ public final class SpawnerFactory {
    */
   public static Spawner constructRepeatingStream(int delay, BulletModel.Builder builder,
       PhysicsEngine physicsEngine) {
-    Spawner out = new Spawner(builder, physicsEngine, bulletFamilyPool, bulletModelPool);
+    Spawner out = newSpawner(builder, physicsEngine);
     BulletFamily f = new BulletFamily(-1f, 0f, -8f, -0f, 0.5f, 0);
     f.addEffect(new Periodic(delay));
     out.addFamily(f);
@@ -126,7 +133,7 @@ public final class SpawnerFactory {
    */
   public static Spawner constructRepeatingDelayedRotateStream(int delay, int delayRotate, float theta,
                                                     BulletModel.Builder builder, PhysicsEngine physicsEngine) {
-    Spawner out = new Spawner(builder, physicsEngine, bulletFamilyPool, bulletModelPool);
+    Spawner out = newSpawner(builder, physicsEngine);
     BulletFamily f = new BulletFamily(-1f, 0f, -10f, -0f, 0.5f, 0);
     f.addEffect(new Periodic(delay));
     f.addDelayedAction(new Spawner.DelayedVelocityRotate(theta, delayRotate));
@@ -150,7 +157,7 @@ public final class SpawnerFactory {
    */
   public static Spawner constructRepeatingAimedBullet(int delay, BossModel model, BulletModel.Builder builder,
       PhysicsEngine physicsEngine) {
-    Spawner out = new Spawner(builder, physicsEngine, bulletFamilyPool, bulletModelPool);
+    Spawner out = newSpawner(builder, physicsEngine);
     BulletFamily f = new BulletFamily(0f, 0f, 14f, -0f, 0.5f, 0);
     f.addEffect(new Periodic(delay));
     f.addEffect(new PlaysAttackAnimation(model));
@@ -171,7 +178,7 @@ public final class SpawnerFactory {
    */
   public static Spawner constructRepeatingDownwardsFacingArc(int dups, float centralAngle, int delay, BossModel model,
       BulletModel.Builder builder, PhysicsEngine physicsEngine) {
-    Spawner out = new Spawner(builder, physicsEngine, bulletFamilyPool, bulletModelPool);
+    Spawner out = newSpawner(builder, physicsEngine);
     BulletFamily f = new BulletFamily(0f, 0f, 0f, -8f, 0.5f, 0);
     f.addEffect(new Periodic(delay));
     f.addEffect(new PlaysAttackAnimation(model));
@@ -193,7 +200,7 @@ public final class SpawnerFactory {
    */
   public static Spawner constructRepeatingAimedArc(int dups, float centralAngle, int delay, BossModel model,
       PlayerModel player, BulletModel.Builder builder, PhysicsEngine physicsEngine) {
-    Spawner out = new Spawner(builder, physicsEngine, bulletFamilyPool, bulletModelPool);
+    Spawner out = newSpawner(builder, physicsEngine);
     BulletFamily f = new BulletFamily(0f, 0f, 8f, 0f, 0.5f, 0);
     f.addEffect(new Periodic(delay));
     f.addEffect(new TargetsModel(out, player));
@@ -215,7 +222,7 @@ public final class SpawnerFactory {
    */
   public static Spawner constructRepeatingRandomStream(float angleRange, int delay, BulletModel.Builder builder,
       PhysicsEngine physicsEngine) {
-    Spawner out = new Spawner(builder, physicsEngine, bulletFamilyPool, bulletModelPool);
+    Spawner out = newSpawner(builder, physicsEngine);
     BulletFamily f = new BulletFamily(0f, 0f, 14f, 0f, 0.5f, 0);
     f.addEffect(new Periodic(delay));
     f.addEffect(new RandomSpray(angleRange));
@@ -234,7 +241,7 @@ public final class SpawnerFactory {
    */
   public static Spawner constructSpinningRing(float offset, int dups, int delay, BossModel model,
       BulletModel.Builder builder, PhysicsEngine physicsEngine) {
-    Spawner out = new Spawner(builder, physicsEngine, bulletFamilyPool, bulletModelPool);
+    Spawner out = newSpawner(builder, physicsEngine);
     BulletFamily f = new BulletFamily(offset, 0f, 0f, 0f, 0.5f, 0);
     f.addEffect(new Arc(0f, MathUtils.PI * 2, dups));
     f.addDelayedAction(new Spawner.DelayedIndefiniteRotate(delay, model));
@@ -255,7 +262,7 @@ public final class SpawnerFactory {
    */
   public static Spawner constructRepeatingAimedRandomStream(float angleRange, int delay, PlayerModel player,
                                   BossModel model, BulletModel.Builder builder, PhysicsEngine physicsEngine) {
-    Spawner out = new Spawner(builder, physicsEngine, bulletFamilyPool, bulletModelPool);
+    Spawner out = newSpawner(builder, physicsEngine);
     BulletFamily f = new BulletFamily(0f, 0f, 11f, 0f, 0.5f, 0);
     f.addEffect(new PlaysAttackAnimation(model));
     f.addEffect(new Periodic(delay));
@@ -278,7 +285,7 @@ public final class SpawnerFactory {
   public static Spawner constructRepeatingDelayedTrackingSpeedArc(int dups, float centralAngle, float angle,
                                           int period, int delay, float startVel, float endVel, BossModel model,
                                           BulletModel.Builder builder, PhysicsEngine physicsEngine) {
-    Spawner out = new Spawner(builder, physicsEngine, bulletFamilyPool, bulletModelPool);
+    Spawner out = newSpawner(builder, physicsEngine);
     BulletFamily f = new BulletFamily(0f, 0f, startVel, 0f, 0.5f, 0);
     f.addEffect(new PlaysAttackAnimation(model));
     f.addDelayedAction(new DelayedTarget(delay));
@@ -301,7 +308,7 @@ public final class SpawnerFactory {
    */
   public static Spawner constructRepeatingDelayedRotateArc(int dups, float centralAngle, int period, int delay,
                        float rotateAngle, BossModel model, BulletModel.Builder builder, PhysicsEngine physicsEngine) {
-    Spawner out = new Spawner(builder, physicsEngine, bulletFamilyPool, bulletModelPool);
+    Spawner out = newSpawner(builder, physicsEngine);
     BulletFamily f = new BulletFamily(0f, 0f, 10f, 0f, 0.5f, 0);
     f.addEffect(new PlaysAttackAnimation(model));
     f.addDelayedAction(new Spawner.DelayedVelocityRotate(rotateAngle, delay));
@@ -327,7 +334,7 @@ public final class SpawnerFactory {
    */
   public static Spawner constructRepeatingDelayedSpeedArc(int dups, float centralAngle, int period, int delay,
            float startVel, float endVel, BossModel model, BulletModel.Builder builder, PhysicsEngine physicsEngine) {
-    Spawner out = new Spawner(builder, physicsEngine, bulletFamilyPool, bulletModelPool);
+    Spawner out = newSpawner(builder, physicsEngine);
     BulletFamily f = new BulletFamily(0f, 0f, startVel, 0f, 0.5f, 0);
     f.addEffect(new PlaysAttackAnimation(model));
     f.addDelayedAction(new Spawner.DelayedSpeedChange(endVel, delay));
@@ -349,7 +356,7 @@ public final class SpawnerFactory {
    */
   public static Spawner constructRepeatingDelayedTrackingArc(int dups, float centralAngle, float angle,
                                                              int period, int delay, BulletModel.Builder builder, PhysicsEngine physicsEngine) {
-    Spawner out = new Spawner(builder, physicsEngine, bulletFamilyPool, bulletModelPool);
+    Spawner out = newSpawner(builder, physicsEngine);
     BulletFamily f = new BulletFamily(0f, 0f, 10f, 0f, 0.5f, 0);
     f.addDelayedAction(new DelayedTarget(delay));
     f.addEffect(new Periodic(period));
@@ -1,12 +1,14 @@
 package edu.cornell.jade.seasthethrone.gamemodel;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.CircleShape;
 import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.math.Vector2;
 import edu.cornell.jade.seasthethrone.gamemodel.player.PlayerBulletModel;
 import edu.cornell.jade.seasthethrone.model.SimpleModel;
+import edu.cornell.jade.seasthethrone.physics.BulletEngine;
 import com.badlogic.gdx.utils.Pool;
 import com.badlogic.gdx.utils.Pool.Poolable;
 
@@ -29,7 +31,7 @@ public class BulletModel extends SimpleModel implements Renderable, Poolable {
   private Fixture geometry;
 
   /** Bullet texture */
-  public Texture fishTexture;
+  public TextureRegion fishTexture;
 
   /** FilmStrip cache object */
   public FilmStrip filmStrip;
@@ -40,6 +42,12 @@ public class BulletModel extends SimpleModel implements Renderable, Poolable {
   /** If the bullet is unbreakable */
   private boolean isUnbreakable;
 
+  /** The bullet engine simulating this bullet, or null if it is simulated by Box2D */
+  private BulletEngine engine;
+
+  /** The slot of this bullet in its bullet engine */
+  private int slot;
+
   /**
    * {@link BulletModel} constructor using an x and y coordinate & radius. NOTE: as of now, you must
    * call activatePhysics after constructing the BulletModel for it to be properly created.
@@ -86,13 +94,112 @@ public class BulletModel extends SimpleModel implements Renderable, Poolable {
     res.knockbackForce = 20f;
     res.fishTexture = builder.type == Builder.Type.UNBREAKABLE
             ? builder.UNBREAKABLE_TEXTURE : builder.BASE_TEXTURE;
-    res.filmStrip.setTexture(res.fishTexture);
-    res.filmStrip.setRegion(0, 0, res.fishTexture.getWidth(), res.fishTexture.getHeight());
+    res.filmStrip.setRegion(res.fishTexture);
     res.isUnbreakable = builder.type == Builder.Type.UNBREAKABLE;
     res.markRemoved(false);
     return res;
   }
 
+  /**
+   * Attaches this bullet to a slot of a {@link BulletEngine}. From now on the position and velocity
+   * of the bullet are read from and written to that slot.
+   *
+   * @param engine the engine simulating this bullet
+   * @param slot the slot of this bullet in the engine
+   */
+  public void attach(BulletEngine engine, int slot) {
+    this.engine = engine;
+    this.slot = slot;
+  }
+
+  /** Returns the slot of this bullet in its {@link BulletEngine}, only valid while attached */
+  public int getSlot() {
+    return slot;
+  }
+
+  /** Returns if this bullet is simulated by a {@link BulletEngine} */
+  public boolean isAttached() {
+    return engine != null;
+  }
+
+  /** Detaches this bullet from its {@link BulletEngine}, keeping its last position and velocity. */
+  public void detach() {
+    if (engine == null) return;
+    BulletEngine e = engine;
+    engine = null;
+    bodyinfo.position.set(e.getX(slot), e.getY(slot));
+    bodyinfo.linearVelocity.set(e.getVX(slot), e.getVY(slot));
+  }
+
+  @Override
+  public Vector2 getPosition() {
+    return engine != null ? positionCache.set(engine.getX(slot), engine.getY(slot)) : super.getPosition();
+  }
+
+  @Override
+  public void setPosition(float x, float y) {
+    if (engine != null) {
+      engine.setX(slot, x);
+      engine.setY(slot, y);
+    } else {
+      super.setPosition(x, y);
+    }
+  }
+
+  @Override
+  public float getX() {
+    return engine != null ? engine.getX(slot) : super.getX();
+  }
+
+  @Override
+  public void setX(float value) {
+    if (engine != null) engine.setX(slot, value);
+    else super.setX(value);
+  }
+
+  @Override
+  public float getY() {
+    return engine != null ? engine.getY(slot) : super.getY();
+  }
+
+  @Override
+  public void setY(float value) {
+    if (engine != null) engine.setY(slot, value);
+    else super.setY(value);
+  }
+
+  @Override
+  public Vector2 getLinearVelocity() {
+    return engine != null ? velocityCache.set(engine.getVX(slot), engine.getVY(slot)) : super.getLinearVelocity();
+  }
+
+  @Override
+  public float getVX() {
+    return engine != null ? engine.getVX(slot) : super.getVX();
+  }
+
+  @Override
+  public void setVX(float value) {
+    if (engine != null) engine.setVX(slot, value);
+    else super.setVX(value);
+  }
+
+  @Override
+  public float getVY() {
+    return engine != null ? engine.getVY(slot) : super.getVY();
+  }
+
+  @Override
+  public void setVY(float value) {
+    if (engine != null) engine.setVY(slot, value);
+    else super.setVY(value);
+  }
+
+  @Override
+  public boolean isActive() {
+    return engine != null || super.isActive();
+  }
+
   /**
    * Create new fixtures for this body, defining the shape
    *
@@ -134,9 +241,9 @@ public class BulletModel extends SimpleModel implements Renderable, Poolable {
     FilmStrip filmStrip = getFilmStrip();
     filmStrip.setFrame(frame);
 
-    Vector2 pos = getPosition();
+    Vector2 pos = getRenderPosition(renderer.getInterpolation());
 
-    renderer.draw(filmStrip, pos.x, pos.y, true, angle());
+    renderer.drawBullet(filmStrip, Color.WHITE, pos.x, pos.y, getVX(), getVY());
   }
 
   @Override
@@ -211,10 +318,10 @@ public class BulletModel extends SimpleModel implements Renderable, Poolable {
     private float vy;
 
     /** Texture for base bullet */
-    private Texture BASE_TEXTURE;
+    private TextureRegion BASE_TEXTURE;
 
     /** Texture for unbreakable bullet */
-    private Texture UNBREAKABLE_TEXTURE;
+    private TextureRegion UNBREAKABLE_TEXTURE;
 
     /** Radius of shape of bullet */
     private float radius;
@@ -231,12 +338,12 @@ public class BulletModel extends SimpleModel implements Renderable, Poolable {
 
     private Builder() { this.type = Type.DEFAULT; }
 
-    public Builder setBaseTexture(Texture texture) {
+    public Builder setBaseTexture(TextureRegion texture) {
       BASE_TEXTURE = texture;
       return this;
     }
 
-    public Builder setUnbreakableTexture(Texture texture) {
+    public Builder setUnbreakableTexture(TextureRegion texture) {
       UNBREAKABLE_TEXTURE = texture;
       return this;
     }
@@ -10,8 +10,12 @@ import edu.cornell.jade.seasthethrone.util.FilmStrip;
 
 public class BulletModelPool extends Pool<BulletModel> {
 
-  /** dummy texture region */
-  private static final Texture DUMMY = new Texture(new Pixmap(8, 8, Format.RGBA8888));
+  /**
+   * dummy texture region, created with the first pool rather than when the class is loaded, so a
+   * GL context is only needed once a pool is made. Pools are made on the GL thread, while bullets
+   * may be obtained on the simulation thread.
+   */
+  private static Texture dummy;
 
   /**
    * Constructs a bullet model pool
@@ -21,14 +25,21 @@ public class BulletModelPool extends Pool<BulletModel> {
    */
   public BulletModelPool(int initialCapacity, int max) {
     super(initialCapacity, max);
+    if (dummy == null) dummy = new Texture(new Pixmap(8, 8, Format.RGBA8888));
   }
 
   @Override
   protected BulletModel newObject() {
     BulletModel out = new BulletModel();
     // hardcoded the filmstip parameters because they need to exist
-    out.filmStrip = new FilmStrip(DUMMY, 1, 1);
+    out.filmStrip = new FilmStrip(dummy, 1, 1);
     out.shape = new CircleShape();
     return out;
   }
+
+  @Override
+  protected void discard(BulletModel object) {
+    super.discard(object);
+    object.shape.dispose();
+  }
 }
@@ -1,10 +1,10 @@
 package edu.cornell.jade.seasthethrone.gamemodel;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import edu.cornell.jade.seasthethrone.assets.AssetDirectory;
+import edu.cornell.jade.seasthethrone.assets.TextureCache;
 import edu.cornell.jade.seasthethrone.level.LevelObject;
 import edu.cornell.jade.seasthethrone.model.BoxModel;
 import edu.cornell.jade.seasthethrone.physics.CollisionMask;
@@ -35,7 +35,7 @@ public class CheckpointModel extends BoxModel implements Interactable, Renderabl
   /** Range within which the player can interact with this checkpoint */
   private final float INTERACT_RANGE = 5f;
 
-  public CheckpointModel(LevelObject obs, float scale) {
+  public CheckpointModel(LevelObject obs, float scale, TextureCache.Lease textures) {
     super(obs.x, obs.y, obs.width, obs.height);
     this.checkpointID = obs.checkpointID;
     this.WORLD_SCALE = scale;
@@ -43,8 +43,8 @@ public class CheckpointModel extends BoxModel implements Interactable, Renderabl
     this.frameCounter = 0;
     this.frameDelay = 4;
 
-    this.texture = new TextureRegion(new Texture("levels/mossytablet.png"));
-    this.arrow = new FilmStrip(new Texture("levels/interactable_arrow.png"), 1, 20);
+    this.texture = new TextureRegion(textures.get("levels/mossytablet.png"));
+    this.arrow = new FilmStrip(textures.get("levels/interactable_arrow.png"), 1, 20);
 
     CollisionMask.setCategoryMaskBits(this);
   }
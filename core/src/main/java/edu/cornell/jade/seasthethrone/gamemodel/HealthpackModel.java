@@ -1,9 +1,9 @@
 package edu.cornell.jade.seasthethrone.gamemodel;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.BodyDef;
+import edu.cornell.jade.seasthethrone.assets.TextureCache;
 import edu.cornell.jade.seasthethrone.level.LevelObject;
 import edu.cornell.jade.seasthethrone.model.BoxModel;
 import edu.cornell.jade.seasthethrone.render.Renderable;
@@ -31,12 +31,12 @@ public class HealthpackModel extends BoxModel implements Interactable, Renderabl
   /** Range within which the player can interact with this healthpack */
   private final float INTERACT_RANGE = 5f;
 
-  public HealthpackModel(LevelObject obs, float scale) {
+  public HealthpackModel(LevelObject obs, float scale, TextureCache.Lease textures) {
     super(obs.x, obs.y, obs.width, obs.height);
 
-    this.unused_texture = new TextureRegion(new Texture("levels/healthpack.png"));
-    this.used_texture = new TextureRegion(new Texture("levels/healthpack_empty.png"));
-    this.arrow = new FilmStrip(new Texture("levels/interactable_arrow.png"), 1, 20);
+    this.unused_texture = new TextureRegion(textures.get("levels/healthpack.png"));
+    this.used_texture = new TextureRegion(textures.get("levels/healthpack_empty.png"));
+    this.arrow = new FilmStrip(textures.get("levels/interactable_arrow.png"), 1, 20);
     this.used = false;
     this.WOLRD_SCALE = scale;
     this.playerInRange = false;
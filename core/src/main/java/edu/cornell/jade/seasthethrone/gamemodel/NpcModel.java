@@ -1,7 +1,7 @@
 package edu.cornell.jade.seasthethrone.gamemodel;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.Vector2;
+import edu.cornell.jade.seasthethrone.assets.TextureCache;
 import edu.cornell.jade.seasthethrone.level.LevelObject;
 import edu.cornell.jade.seasthethrone.model.BoxModel;
 import edu.cornell.jade.seasthethrone.physics.CollisionMask;
@@ -39,7 +39,7 @@ public class NpcModel extends BoxModel implements Interactable, Renderable {
   /** Range within which the player can interact with this checkpoint */
   private final float INTERACT_RANGE = 7f;
 
-  public NpcModel(LevelObject obj, float scale) {
+  public NpcModel(LevelObject obj, float scale, TextureCache.Lease textures) {
     super(obj.x, obj.y, obj.width, obj.height);
     this.WORLD_SCALE = scale;
     this.playerInRange = false;
@@ -48,7 +48,7 @@ public class NpcModel extends BoxModel implements Interactable, Renderable {
     this.arrowFrameDelay = 4;
 
     this.filmStrip = new FilmStrip(obj.texture.getTexture(), 1, 2);
-    this.arrow = new FilmStrip(new Texture("levels/interactable_arrow.png"), 1, 20);
+    this.arrow = new FilmStrip(textures.get("levels/interactable_arrow.png"), 1, 20);
     CollisionMask.setCategoryMaskBits(this);
 
     this.dialogue = new DialogueBox();
@@ -1,7 +1,7 @@
 package edu.cornell.jade.seasthethrone.gamemodel.boss;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.BodyDef;
@@ -164,7 +164,7 @@ public class BossModel extends EnemyModel implements Renderable {
     if (shouldUpdate) {
       progressFrame();
     }
-    Vector2 pos = getPosition();
+    Vector2 pos = getRenderPosition(renderer.getInterpolation());
     renderer.draw(filmStrip, pos.x, pos.y, 0.16f*scale, color);
   }
 
@@ -458,33 +458,33 @@ public class BossModel extends EnemyModel implements Renderable {
       return this;
     }
 
-    public Builder setShootAnimation(Texture texture) {
-      int width = texture.getWidth();
+    public Builder setShootAnimation(TextureRegion texture) {
+      int width = texture.getRegionWidth();
       shootAnimation = new FilmStrip(texture, 1, width / frameSize);
       ;
       return this;
     }
 
-    public Builder setIdleAnimation(Texture texture) {
-      int width = texture.getWidth();
+    public Builder setIdleAnimation(TextureRegion texture) {
+      int width = texture.getRegionWidth();
       idleAnimation = new FilmStrip(texture, 1, width / frameSize);
       return this;
     }
 
-    public Builder setGetHitAnimation(Texture texture) {
-      int width = texture.getWidth();
+    public Builder setGetHitAnimation(TextureRegion texture) {
+      int width = texture.getRegionWidth();
       getHitAnimation = new FilmStrip(texture, 1, width / frameSize);
       return this;
     }
 
-    public Builder setMoveAnimation(Texture texture) {
-      int width = texture.getWidth();
+    public Builder setMoveAnimation(TextureRegion texture) {
+      int width = texture.getRegionWidth();
       moveAnimation = new FilmStrip(texture, 1, width / frameSize);
       return this;
     }
 
-    public Builder setFalloverAnimation(Texture texture) {
-      int width = texture.getWidth();
+    public Builder setFalloverAnimation(TextureRegion texture) {
+      int width = texture.getRegionWidth();
       falloverAnimation = new FilmStrip(texture, 1, width / frameSize);
       if (type.equals("crab")) {
         falloverAnimation = new FilmStrip(texture, 1, 16);
@@ -492,8 +492,8 @@ public class BossModel extends EnemyModel implements Renderable {
       return this;
     }
 
-    public Builder setDeathAnimation(Texture texture) {
-      int width = texture.getWidth();
+    public Builder setDeathAnimation(TextureRegion texture) {
+      int width = texture.getRegionWidth();
       deathAnimation = new FilmStrip(texture, 1, width / frameSize);
       if (type.equals("crab")) {
         deathAnimation = new FilmStrip(texture, 1, 18);
@@ -501,88 +501,88 @@ public class BossModel extends EnemyModel implements Renderable {
       return this;
     }
 
-    public Builder setAttackAnimation(Texture texture) {
-      int width = texture.getWidth();
+    public Builder setAttackAnimation(TextureRegion texture) {
+      int width = texture.getRegionWidth();
       attackAnimation = new FilmStrip(texture, 1, width / frameSize);
       return this;
     }
-    public Builder setAttackRightAnimation(Texture texture) {
-      int width = texture.getWidth();
+    public Builder setAttackRightAnimation(TextureRegion texture) {
+      int width = texture.getRegionWidth();
       attackRightAnimation = new FilmStrip(texture, 1, width / frameSize);
       return this;
     }
-    public Builder setAttackUpAnimation(Texture texture) {
-      int width = texture.getWidth();
+    public Builder setAttackUpAnimation(TextureRegion texture) {
+      int width = texture.getRegionWidth();
       attackUpAnimation = new FilmStrip(texture, 1, width / frameSize);
       return this;
     }
-    public Builder setAttackDownAnimation(Texture texture) {
-      int width = texture.getWidth();
+    public Builder setAttackDownAnimation(TextureRegion texture) {
+      int width = texture.getRegionWidth();
       attackDownAnimation = new FilmStrip(texture, 1, width / frameSize);
       return this;
     }
-    public Builder setGetHitRightAnimation(Texture texture) {
-      int width = texture.getWidth();
+    public Builder setGetHitRightAnimation(TextureRegion texture) {
+      int width = texture.getRegionWidth();
       getHitRightAnimation = new FilmStrip(texture, 1, width / frameSize);
       return this;
     }
-    public Builder setGetHitUpAnimation(Texture texture) {
-      int width = texture.getWidth();
+    public Builder setGetHitUpAnimation(TextureRegion texture) {
+      int width = texture.getRegionWidth();
       getHitUpAnimation = new FilmStrip(texture, 1, width / frameSize);
       return this;
     }
-    public Builder setGetHitDownAnimation(Texture texture) {
-      int width = texture.getWidth();
+    public Builder setGetHitDownAnimation(TextureRegion texture) {
+      int width = texture.getRegionWidth();
       getHitDownAnimation = new FilmStrip(texture, 1, width / frameSize);
       return this;
     }
-    public Builder setShootRightAnimation(Texture texture) {
-      int width = texture.getWidth();
+    public Builder setShootRightAnimation(TextureRegion texture) {
+      int width = texture.getRegionWidth();
       shootRightAnimation = new FilmStrip(texture, 1, width / frameSize);
       return this;
     }
-    public Builder setShootUpAnimation(Texture texture) {
-      int width = texture.getWidth();
+    public Builder setShootUpAnimation(TextureRegion texture) {
+      int width = texture.getRegionWidth();
       shootUpAnimation = new FilmStrip(texture, 1, width / frameSize);
       return this;
     }
-    public Builder setShootDownAnimation(Texture texture) {
-      int width = texture.getWidth();
+    public Builder setShootDownAnimation(TextureRegion texture) {
+      int width = texture.getRegionWidth();
       shootDownAnimation = new FilmStrip(texture, 1, width / frameSize);
       return this;
     }
-    public Builder setTransformAnimation (Texture texture){
-      int width = texture.getWidth();
+    public Builder setTransformAnimation (TextureRegion texture){
+      int width = texture.getRegionWidth();
       transformAnimation = new FilmStrip(texture, 1, width / frameSize);
       return this;
     }
-    public Builder setFinalAttackAnimation (Texture texture){
-      int width = texture.getWidth();
+    public Builder setFinalAttackAnimation (TextureRegion texture){
+      int width = texture.getRegionWidth();
       finalAttackAnimation = new FilmStrip(texture, 1, width / frameSize);
       return this;
     }
-    public Builder setFinalGetHitAnimation (Texture texture){
-      int width = texture.getWidth();
+    public Builder setFinalGetHitAnimation (TextureRegion texture){
+      int width = texture.getRegionWidth();
       finalGetHitAnimation = new FilmStrip(texture, 1, width / frameSize);
       return this;
     }
-    public Builder setFinalShootAnimation (Texture texture){
-      int width = texture.getWidth();
+    public Builder setFinalShootAnimation (TextureRegion texture){
+      int width = texture.getRegionWidth();
       finalShootAnimation = new FilmStrip(texture, 1, width / frameSize);
       return this;
     }
-    public Builder setCatchBreathAnimation (Texture texture){
-      int width = texture.getWidth();
+    public Builder setCatchBreathAnimation (TextureRegion texture){
+      int width = texture.getRegionWidth();
       catchBreathAnimation = new FilmStrip(texture, 1, width / frameSize);
       return this;
     }
-    public Builder setTerminatedAnimation (Texture texture){
-      int width = texture.getWidth();
+    public Builder setTerminatedAnimation (TextureRegion texture){
+      int width = texture.getRegionWidth();
       terminatedAnimation = new FilmStrip(texture, 1, 1);
       return this;
     }
-    public Builder setIdleUpAnimation(Texture texture){
-      int width = texture.getWidth();
+    public Builder setIdleUpAnimation(TextureRegion texture){
+      int width = texture.getRegionWidth();
       idleUpAnimation = new FilmStrip(texture, 1, 1);
       return this;
     }
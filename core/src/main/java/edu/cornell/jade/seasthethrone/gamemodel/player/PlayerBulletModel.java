@@ -22,9 +22,9 @@ public class PlayerBulletModel extends BulletModel {
         FilmStrip filmStrip = getFilmStrip();
         filmStrip.setFrame(frame);
 
-        Vector2 pos = getPosition();
+        Vector2 pos = getRenderPosition(renderer.getInterpolation());
 
-        renderer.draw(filmStrip, pos.x, pos.y, Color.PINK, angle());
+        renderer.drawBullet(filmStrip, Color.PINK, pos.x, pos.y, getVX(), getVY());
     }
 
     /** Returns amount of damage to inflict (on bosses) */
@@ -1,6 +1,6 @@
 package edu.cornell.jade.seasthethrone.gamemodel.player;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
 import com.badlogic.gdx.physics.box2d.joints.RevoluteJointDef;
@@ -34,77 +34,77 @@ public class PlayerModel extends ComplexModel implements Renderable {
   /** Previous frame health */
   private int prevHealth;
   /** Player texture when facing up */
-  public Texture playerTextureUp;
+  public TextureRegion playerTextureUp;
 
   /** Player texture when facing down */
-  public Texture playerTextureDown;
+  public TextureRegion playerTextureDown;
 
   /** Player texture when facing left */
-  public Texture playerTextureLeft;
+  public TextureRegion playerTextureLeft;
 
   /** Player texture when facing right */
-  public Texture playerTextureRight;
+  public TextureRegion playerTextureRight;
 
   /** Player texture when dashing up */
-  public Texture playerTextureUpDash;
+  public TextureRegion playerTextureUpDash;
 
   /** Player texture when dashing down */
-  public Texture playerTextureDownDash;
+  public TextureRegion playerTextureDownDash;
 
   /** Player texture when dashing left */
-  public Texture playerTextureLeftDash;
+  public TextureRegion playerTextureLeftDash;
 
   /** Player texture when dashing right */
-  public Texture playerTextureRightDash;
+  public TextureRegion playerTextureRightDash;
 
   /** Player dashes when dashing diagonally */
-  public Texture playerTextureNEDash;
+  public TextureRegion playerTextureNEDash;
 
-  public Texture playerTextureNWDash;
-  public Texture playerTextureSEDash;
-  public Texture playerTextureSWDash;
+  public TextureRegion playerTextureNWDash;
+  public TextureRegion playerTextureSEDash;
+  public TextureRegion playerTextureSWDash;
 
   /** Player texture for the das indicator */
-  private Texture dashIndicatorTexture;
+  private TextureRegion dashIndicatorTexture;
 
   /** Player texture for idle left */
-  private Texture idleLeft;
+  private TextureRegion idleLeft;
 
   /** Player texture for idle right */
-  private Texture idleRight;
+  private TextureRegion idleRight;
 
   /** Player texture for idle up */
-  private Texture idleUp;
+  private TextureRegion idleUp;
 
   /** Player texture for idle down */
-  private Texture idleDown;
+  private TextureRegion idleDown;
 
   /** Player texture for shooting up */
-  private Texture shootUp;
+  private TextureRegion shootUp;
 
   /** Player texture for shooting down */
-  private Texture shootDown;
+  private TextureRegion shootDown;
 
   /** Player texture for shooting left */
-  private Texture shootLeft;
+  private TextureRegion shootLeft;
 
   /** Player texture for shooting right */
-  private Texture shootRight;
+  private TextureRegion shootRight;
 
   /** Player texture for dying up */
-  private Texture dieUp;
+  private TextureRegion dieUp;
 
   /** Player texture for dying down */
-  private Texture dieDown;
+  private TextureRegion dieDown;
 
   /** Player texture for dying left */
-  private Texture dieLeft;
+  private TextureRegion dieLeft;
 
   /** Player texture for dying right */
-  private Texture dieRight;
+  private TextureRegion dieRight;
 
   /** Empty texture */
-  private Texture empty;
+  private TextureRegion empty;
   /** FilmStrip cache object */
   public FilmStrip filmStrip;
 
@@ -286,7 +286,7 @@ public class PlayerModel extends ComplexModel implements Renderable {
     if (shouldUpdate) {
       progressFrame();
     }
-    Vector2 pos = getPosition();
+    Vector2 pos = getRenderPosition(renderer.getInterpolation());
     if (getBodyModel().isHit() && !isDead()) {
       renderer.draw(currentStrip, pos.x, pos.y, 0.12f, Color.RED);
     }
@@ -301,71 +301,71 @@ public class PlayerModel extends ComplexModel implements Renderable {
   public void progressFrame() {
     currentStrip = getFilmStrip();
     if (isExecuting()){
-      currentStrip.setTexture(empty);
+      currentStrip.setSheet(empty);
       setFrameNumber(0);
     }
     else if (!isDashing()){
       switch (direction()) {
         case UP:
           if (isDead())
-            currentStrip.setTexture(getDieUp());
+            currentStrip.setSheet(getDieUp());
           else if (isShootingAnimated()) {
-            currentStrip.setTexture(getShootUp());
+            currentStrip.setSheet(getShootUp());
           } else if (isIdle())
-            currentStrip.setTexture(getIdleUp());
+            currentStrip.setSheet(getIdleUp());
           else
-            currentStrip.setTexture(getTextureUp());
+            currentStrip.setSheet(getTextureUp());
           break;
         case DOWN:
           if (isDead())
-            currentStrip.setTexture(getDieDown());
+            currentStrip.setSheet(getDieDown());
           else if (isShootingAnimated())
-            currentStrip.setTexture(getShootDown());
+            currentStrip.setSheet(getShootDown());
           else if (isIdle())
-            currentStrip.setTexture(getIdleDown());
+            currentStrip.setSheet(getIdleDown());
           else
-            currentStrip.setTexture(getTextureDown());
+            currentStrip.setSheet(getTextureDown());
           break;
         case LEFT:
           if (isDead())
-            currentStrip.setTexture(getDieLeft());
+            currentStrip.setSheet(getDieLeft());
           else if (isShootingAnimated())
-            currentStrip.setTexture(getShootLeft());
+            currentStrip.setSheet(getShootLeft());
           else if (isIdle())
-            currentStrip.setTexture(getIdleLeft());
+            currentStrip.setSheet(getIdleLeft());
           else
-            currentStrip.setTexture(getTextureLeft());
+            currentStrip.setSheet(getTextureLeft());
           break;
         case RIGHT:
           if (isDead())
-            currentStrip.setTexture(getDieRight());
+            currentStrip.setSheet(getDieRight());
           else if (isShootingAnimated())
-            currentStrip.setTexture(getShootRight());
+            currentStrip.setSheet(getShootRight());
           else if (isIdle())
-            currentStrip.setTexture(getIdleRight());
+            currentStrip.setSheet(getIdleRight());
           else
-            currentStrip.setTexture(getTextureRight());
+            currentStrip.setSheet(getTextureRight());
           break;
       }
     }
     else {
       if (isDead()) {
         switch (direction()) {
-          case UP -> currentStrip.setTexture(getDieUp());
-          case DOWN -> currentStrip.setTexture(getDieDown());
-          case LEFT -> currentStrip.setTexture(getDieLeft());
-          case RIGHT -> currentStrip.setTexture(getDieRight());
+          case UP -> currentStrip.setSheet(getDieUp());
+          case DOWN -> currentStrip.setSheet(getDieDown());
+          case LEFT -> currentStrip.setSheet(getDieLeft());
+          case RIGHT -> currentStrip.setSheet(getDieRight());
         }
       } else{
         switch (direction()) {
-          case UP -> currentStrip.setTexture(getTextureUpDash());
-          case DOWN -> currentStrip.setTexture(getTextureDownDash());
-          case LEFT -> currentStrip.setTexture(getTextureLeftDash());
-          case RIGHT -> currentStrip.setTexture(getTextureRightDash());
-          case NE -> currentStrip.setTexture(getTextureNEDash());
-          case NW -> currentStrip.setTexture(getTextureNWDash());
-          case SE -> currentStrip.setTexture(getTextureSEDash());
-          case SW -> currentStrip.setTexture(getTextureSWDash());
+          case UP -> currentStrip.setSheet(getTextureUpDash());
+          case DOWN -> currentStrip.setSheet(getTextureDownDash());
+          case LEFT -> currentStrip.setSheet(getTextureLeftDash());
+          case RIGHT -> currentStrip.setSheet(getTextureRightDash());
+          case NE -> currentStrip.setSheet(getTextureNEDash());
+          case NW -> currentStrip.setSheet(getTextureNWDash());
+          case SE -> currentStrip.setSheet(getTextureSEDash());
+          case SW -> currentStrip.setSheet(getTextureSWDash());
         }
       }
     }
@@ -460,102 +460,102 @@ public class PlayerModel extends ComplexModel implements Renderable {
     else return framesInAnimation;
   }
 
-  public Texture getTextureUp() {
+  public TextureRegion getTextureUp() {
     return playerTextureUp;
   }
 
-  public Texture getTextureDown() {
+  public TextureRegion getTextureDown() {
     return playerTextureDown;
   }
 
-  public Texture getTextureLeft() {
+  public TextureRegion getTextureLeft() {
     return playerTextureLeft;
   }
 
-  public Texture getTextureRight() {
+  public TextureRegion getTextureRight() {
     return playerTextureRight;
   }
 
-  public Texture getTextureUpDash() {
+  public TextureRegion getTextureUpDash() {
     return playerTextureUpDash;
   }
 
-  public Texture getTextureDownDash() {
+  public TextureRegion getTextureDownDash() {
     return playerTextureDownDash;
   }
 
-  public Texture getTextureLeftDash() {
+  public TextureRegion getTextureLeftDash() {
     return playerTextureLeftDash;
   }
 
-  public Texture getTextureRightDash() {
+  public TextureRegion getTextureRightDash() {
     return playerTextureRightDash;
   }
 
-  public Texture getTextureNEDash() {
+  public TextureRegion getTextureNEDash() {
     return playerTextureNEDash;
   }
 
-  public Texture getTextureNWDash() {
+  public TextureRegion getTextureNWDash() {
     return playerTextureNWDash;
   }
 
-  public Texture getTextureSWDash() {
+  public TextureRegion getTextureSWDash() {
     return playerTextureSWDash;
   }
 
-  public Texture getTextureSEDash() {
+  public TextureRegion getTextureSEDash() {
     return playerTextureSEDash;
   }
 
-  public Texture getIdleLeft() {
+  public TextureRegion getIdleLeft() {
     return idleLeft;
   }
 
-  public Texture getIdleRight() {
+  public TextureRegion getIdleRight() {
     return idleRight;
   }
 
-  public Texture getIdleUp() {
+  public TextureRegion getIdleUp() {
     return idleUp;
   }
 
-  public Texture getIdleDown() {
+  public TextureRegion getIdleDown() {
     return idleDown;
   }
 
-  public Texture getShootUp() {
+  public TextureRegion getShootUp() {
     return shootUp;
   }
 
-  public Texture getShootDown() {
+  public TextureRegion getShootDown() {
     return shootDown;
   }
 
-  public Texture getShootRight() {
+  public TextureRegion getShootRight() {
     return shootRight;
   }
 
-  public Texture getShootLeft() {
+  public TextureRegion getShootLeft() {
     return shootLeft;
   }
 
-  public Texture getDieUp() {
+  public TextureRegion getDieUp() {
     return dieUp;
   }
 
-  public Texture getDieDown() {
+  public TextureRegion getDieDown() {
     return dieDown;
   }
 
-  public Texture getDieLeft() {
+  public TextureRegion getDieLeft() {
     return dieLeft;
   }
 
-  public Texture getDieRight() {
+  public TextureRegion getDieRight() {
     return dieRight;
   }
-  public Texture getEmpty() {
+  public TextureRegion getEmpty() {
     return empty;
   }
 
@@ -702,6 +702,13 @@ public class PlayerModel extends ComplexModel implements Renderable {
     return getBodyModel().isKnockedBack();
   }
 
+  @Override
+  public void savePreviousPosition() {
+    super.savePreviousPosition();
+    // the spear is drawn relative to the body
+    getBodyModel().savePreviousPosition();
+  }
+
   /** Returns the player body model */
   public PlayerBodyModel getBodyModel() {
     return (PlayerBodyModel) bodies.get(0);
@@ -861,74 +868,74 @@ public class PlayerModel extends ComplexModel implements Renderable {
     private int framesInAnimationDeath;
 
     /** Player texture when facing up */
-    private Texture playerTextureUp;
+    private TextureRegion playerTextureUp;
 
     /** Player texture when facing down */
-    private Texture playerTextureDown;
+    private TextureRegion playerTextureDown;
 
     /** Player texture when facing left */
-    private Texture playerTextureLeft;
+    private TextureRegion playerTextureLeft;
 
     /** Player texture when facing right */
-    private Texture playerTextureRight;
+    private TextureRegion playerTextureRight;
 
     /** Player texture when dashing up */
-    private Texture playerTextureUpDash;
+    private TextureRegion playerTextureUpDash;
 
     /** Player texture when dashing down */
-    private Texture playerTextureDownDash;
+    private TextureRegion playerTextureDownDash;
 
     /** Player texture when dashing left */
-    private Texture playerTextureLeftDash;
+    private TextureRegion playerTextureLeftDash;
 
     /** Player texture when dashing right */
-    private Texture playerTextureRightDash;
+    private TextureRegion playerTextureRightDash;
 
     /** Player dashes when dashing diagonally */
-    public Texture playerTextureNEDash;
+    public TextureRegion playerTextureNEDash;
 
-    public Texture playerTextureNWDash;
-    public Texture playerTextureSEDash;
-    public Texture playerTextureSWDash;
-    private Texture dashIndicatorTexture;
+    public TextureRegion playerTextureNWDash;
+    public TextureRegion playerTextureSEDash;
+    public TextureRegion playerTextureSWDash;
+    private TextureRegion dashIndicatorTexture;
 
     /** player texture for idle left */
-    private Texture idleLeft;
+    private TextureRegion idleLeft;
 
     /** Player texture for idle right */
-    private Texture idleRight;
+    private TextureRegion idleRight;
 
     /** Player texture for idle up */
-    private Texture idleUp;
+    private TextureRegion idleUp;
 
     /** Player texture for idle down */
-    private Texture idleDown;
+    private TextureRegion idleDown;
 
     /** Player texture for shooting up */
-    private Texture shootUp;
+    private TextureRegion shootUp;
 
     /** Player texture for shooting down */
-    private Texture shootDown;
+    private TextureRegion shootDown;
 
     /** Player texture for shooting left */
-    private Texture shootLeft;
+    private TextureRegion shootLeft;
 
     /** Player texture for shooting right */
-    private Texture shootRight;
+    private TextureRegion shootRight;
 
     /** Player texture for dying up */
-    private Texture dieUp;
+    private TextureRegion dieUp;
 
     /** Player texture for dying down */
-    private Texture dieDown;
+    private TextureRegion dieDown;
 
     /** Player texture for dying left */
-    private Texture dieLeft;
+    private TextureRegion dieLeft;
 
     /** Player texture for dying right */
-    private Texture dieRight;
+    private TextureRegion dieRight;
     /** Empty Texture */
-    private Texture empty;
+    private TextureRegion empty;
 
     /** The number of frames to skip before animating the next player frame */
     private int frameDelay;
@@ -988,131 +995,131 @@ public class PlayerModel extends ComplexModel implements Renderable {
       return this;
     }
 
-    public Builder setTextureUp(Texture texture) {
+    public Builder setTextureUp(TextureRegion texture) {
       playerTextureUp = texture;
       return this;
     }
 
-    public Builder setTextureDown(Texture texture) {
+    public Builder setTextureDown(TextureRegion texture) {
       playerTextureDown = texture;
       return this;
     }
 
-    public Builder setTextureLeft(Texture texture) {
+    public Builder setTextureLeft(TextureRegion texture) {
       playerTextureLeft = texture;
       return this;
     }
 
-    public Builder setTextureRight(Texture texture) {
+    public Builder setTextureRight(TextureRegion texture) {
       playerTextureRight = texture;
       return this;
     }
 
-    public Builder setTextureUpDash(Texture texture) {
+    public Builder setTextureUpDash(TextureRegion texture) {
       playerTextureUpDash = texture;
       return this;
     }
 
-    public Builder setTextureDownDash(Texture texture) {
+    public Builder setTextureDownDash(TextureRegion texture) {
       playerTextureDownDash = texture;
       return this;
     }
 
-    public Builder setTextureLeftDash(Texture texture) {
+    public Builder setTextureLeftDash(TextureRegion texture) {
       playerTextureLeftDash = texture;
       return this;
     }
 
-    public Builder setTextureRightDash(Texture texture) {
+    public Builder setTextureRightDash(TextureRegion texture) {
       playerTextureRightDash = texture;
       return this;
     }
 
-    public Builder setTextureNEDash(Texture texture) {
+    public Builder setTextureNEDash(TextureRegion texture) {
       playerTextureNEDash = texture;
       return this;
     }
 
-    public Builder setTextureNWDash(Texture texture) {
+    public Builder setTextureNWDash(TextureRegion texture) {
       playerTextureNWDash = texture;
       return this;
     }
 
-    public Builder setTextureSEDash(Texture texture) {
+    public Builder setTextureSEDash(TextureRegion texture) {
       playerTextureSEDash = texture;
       return this;
     }
 
-    public Builder setTextureSWDash(Texture texture) {
+    public Builder setTextureSWDash(TextureRegion texture) {
       playerTextureSWDash = texture;
       return this;
     }
 
-    public Builder setDashIndicatorTexture(Texture texture) {
+    public Builder setDashIndicatorTexture(TextureRegion texture) {
       dashIndicatorTexture = texture;
       return this;
     }
 
-    public Builder setIdleLeft(Texture texture) {
+    public Builder setIdleLeft(TextureRegion texture) {
       idleLeft = texture;
       return this;
     }
 
-    public Builder setIdleRight(Texture texture) {
+    public Builder setIdleRight(TextureRegion texture) {
       idleRight = texture;
       return this;
     }
 
-    public Builder setIdleUp(Texture texture) {
+    public Builder setIdleUp(TextureRegion texture) {
       idleUp = texture;
       return this;
     }
 
-    public Builder setIdleDown(Texture texture) {
+    public Builder setIdleDown(TextureRegion texture) {
       idleDown = texture;
       return this;
     }
 
-    public Builder setShootUp(Texture texture) {
+    public Builder setShootUp(TextureRegion texture) {
       shootUp = texture;
       return this;
     }
 
-    public Builder setShootDown(Texture texture) {
+    public Builder setShootDown(TextureRegion texture) {
       shootDown = texture;
       return this;
     }
 
-    public Builder setShootLeft(Texture texture) {
+    public Builder setShootLeft(TextureRegion texture) {
       shootLeft = texture;
       return this;
     }
 
-    public Builder setShootRight(Texture texture) {
+    public Builder setShootRight(TextureRegion texture) {
       shootRight = texture;
       return this;
     }
 
-    public Builder setDeathLeft(Texture texture) {
+    public Builder setDeathLeft(TextureRegion texture) {
       dieLeft = texture;
       return this;
     }
 
-    public Builder setDeathRight(Texture texture) {
+    public Builder setDeathRight(TextureRegion texture) {
       dieRight = texture;
       return this;
     }
 
-    public Builder setDeathUp(Texture texture) {
+    public Builder setDeathUp(TextureRegion texture) {
       dieUp = texture;
       return this;
     }
 
-    public Builder setDeathDown(Texture texture) {
+    public Builder setDeathDown(TextureRegion texture) {
       dieDown = texture;
       return this;
     }
-    public Builder setEmpty(Texture texture){
+    public Builder setEmpty(TextureRegion texture){
       empty = texture;
       return this;
     }
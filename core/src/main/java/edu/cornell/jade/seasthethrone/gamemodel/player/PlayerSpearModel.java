@@ -1,6 +1,5 @@
 package edu.cornell.jade.seasthethrone.gamemodel.player;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.World;
@@ -56,18 +55,18 @@ public class PlayerSpearModel extends BoxModel implements Renderable {
    * @param width spear width in physics units
    * @param height spear width in physics units
    */
-  public PlayerSpearModel(float x, float y, float width, float height, Texture texture) {
+  public PlayerSpearModel(float x, float y, float width, float height, TextureRegion texture) {
     super(x, y, width, height);
     spearExtended = false;
     spearDirectionCache = new Vector2();
     indicatorCache = new Vector2();
-    SPEAR_TEXTURE_REGION = new TextureRegion(texture);
+    SPEAR_TEXTURE_REGION = texture;
     damage = 5;
     flagInactive = false;
   }
 
   /** Create new player body at position (x,y) */
-  public PlayerSpearModel(float x, float y, Texture texture, PlayerBodyModel mainBody) {
+  public PlayerSpearModel(float x, float y, TextureRegion texture, PlayerBodyModel mainBody) {
     this(x, y, SPEAR_WIDTH, SPEAR_LENGTH, texture);
     this.mainBody = mainBody;
   }
@@ -166,11 +165,12 @@ public class PlayerSpearModel extends BoxModel implements Renderable {
   public void draw(RenderingEngine renderer) {
     float angle = indicatorCache.angleRad();
     float mag = 3f + SPEAR_OFFSET;
+    Vector2 pos = getMainBody().getRenderPosition(renderer.getInterpolation());
 
     renderer.draw(
         SPEAR_TEXTURE_REGION,
-        getMainBody().getX() + (float) (mag * Math.cos(angle)),
-        getMainBody().getY() + (float) (mag * Math.sin(angle)));
+        pos.x + (float) (mag * Math.cos(angle)),
+        pos.y + (float) (mag * Math.sin(angle)));
   }
 
   /**
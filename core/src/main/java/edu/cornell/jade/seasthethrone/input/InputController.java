@@ -22,9 +22,20 @@ import com.badlogic.gdx.utils.viewport.Viewport;
 import edu.cornell.jade.seasthethrone.util.Controllers;
 import edu.cornell.jade.seasthethrone.util.XBoxController;
 import java.util.*;
+import java.util.function.Predicate;
 
-/** Processes movements for player and AI */
+/**
+ * Processes movements for player and AI
+ *
+ * <p>Input is read once per frame and handed to every controllable. The XBox buttons chosen in
+ * the options are compiled into tests when the preferences are read, rather than looked up by name
+ * every frame. Key and mouse presses are also recorded as they happen, so a tap shorter than a
+ * frame still registers.
+ */
 public class InputController {
+  /** How far a trigger must be pulled to count as pressed */
+  private static final float TRIGGER_THRESHOLD = 0.6f;
+
   /** Viewport to unproject screen coordinates */
   Viewport viewport;
 
@@ -34,11 +45,14 @@ public class InputController {
   /** XBox Controller support */
   private XBoxController xbox;
 
-  /** Primary button from preferences */
-  private String controllerPrimary;
+  /** Test of the primary button from preferences, or null if none is bound */
+  private Predicate<XBoxController> controllerPrimary;
+
+  /** Test of the secondary button from preferences, or null if none is bound */
+  private Predicate<XBoxController> controllerSecondary;
 
-  /** Secondary button from preferences */
-  private String controllerSecondary;
+  /** Key and mouse presses recorded between frames */
+  private final InputEvents events;
 
   /** Whether the reset button was pressed. */
   protected boolean resetPressed;
@@ -52,6 +66,15 @@ public class InputController {
   /** Default cursor location for controllers */
   Vector2 defaultLoc = new Vector2();
 
+  /** Whether this frame's input is read from the XBox controller */
+  private boolean usingController;
+
+  /** Movement read this frame */
+  private float hoff, voff;
+
+  /** Actions pressed this frame */
+  private boolean primary, secondary, tertiary, interact, toggleDash, pause;
+
   /**
    * Returns true if the reset button was pressed.
    *
@@ -93,6 +116,7 @@ public class InputController {
     this.controllables = new ArrayList<>();
     this.viewport = screenToWorld;
     this.dashCoordCache = new Vector2();
+    events = new InputEvents();
     prefs = Gdx.app.getPreferences("options");
     getPrefs();
 
@@ -105,229 +129,124 @@ public class InputController {
 
   /** Updates the state of this object (position) both vertically and horizontally. */
   public void update() {
+    // Another screen may have taken input since this controller last ran
+    events.claim();
+    events.drain();
+
+    // Check to see if a GamePad is connected
+    usingController = xbox != null && xbox.isConnected();
+    if (usingController) {
+      pollController();
+    } else {
+      pollMouse();
+      pollKeyboard();
+    }
+
     for (Controllable p : controllables) {
       readInput(p);
     }
   }
 
-  /** Get updated preferences */
+  /** Get updated preferences, compiling the XBox buttons they bind */
   public void getPrefs() {
-    controllerPrimary = prefs.getString("dashButton");
-    controllerSecondary = prefs.getString("attackButton");
-  }
-
-  /** Reads the input for the player and converts the result into game logic. */
-  public void readInput(Controllable p) {
-    // Check to see if a GamePad is connected
-
-    if (xbox != null && xbox.isConnected()) {
-      readController(p);
-    } else {
-      readMouse(p);
-      readKeyboard(p);
-    }
+    controllerPrimary = compileButton(prefs.getString("dashButton"));
+    controllerSecondary = compileButton(prefs.getString("attackButton"));
   }
 
   /**
-   * Reads input from an XBox controller connected to this computer to determine the actions of the
-   * player. Then calls the corresponding methods in the controller to process the actions.
+   * Returns a test of whether an XBox button is held.
    *
-   * <p>Change the controller keys mapped to primary and secondary actions here.
+   * <p>Change the names of the controller buttons the options may bind here.
    *
-   * @param obj Controller for the player
+   * @param name the name of the button in the preferences
+   * @return the test, or null if the name is not a button
    */
-  private void readController(Controllable obj) {
-    // dash/shoot indicator
-    float hind = xbox.getRightX();
-    float vind = -xbox.getRightY();
-
-    Vector2 location = obj.getLocation();
-    if (location == null) location = defaultLoc;
-    dashCoordCache.set(location.x + hind, location.y + vind);
-    obj.updateDirection(dashCoordCache);
-
-    // dashing
-    switch (controllerPrimary) {
+  private static Predicate<XBoxController> compileButton(String name) {
+    switch (name) {
       case "X":
-        if (xbox.getX()) {
-          obj.pressPrimary();
-        }
-        break;
+        return XBoxController::getX;
       case "Y":
-        if (xbox.getY()) {
-          obj.pressPrimary();
-        }
-        break;
+        return XBoxController::getY;
       case "A":
-        if (xbox.getA()) {
-          obj.pressPrimary();
-        }
-        break;
+        return XBoxController::getA;
       case "B":
-        if (xbox.getB()) {
-          obj.pressPrimary();
-        }
-        break;
+        return XBoxController::getB;
       case "LS":
-        if (xbox.getLStick()) {
-          obj.pressPrimary();
-        }
-        break;
+        return XBoxController::getLStick;
       case "RS":
-        if (xbox.getRStick()) {
-          obj.pressPrimary();
-        }
-        break;
+        return XBoxController::getRStick;
       case "LB":
-        if (xbox.getLBumper()) {
-          obj.pressPrimary();
-        }
-        break;
+        return XBoxController::getLBumper;
       case "RB":
-        if (xbox.getRBumper()) {
-          obj.pressPrimary();
-        }
-        break;
+        return XBoxController::getRBumper;
       case "LT":
-        if (xbox.getLeftTrigger() > 0.6f) {
-
-          obj.pressPrimary();
-        }
-        break;
+        return x -> x.getLeftTrigger() > TRIGGER_THRESHOLD;
       case "RT":
-        if (xbox.getRightTrigger() > 0.6f) {
-          obj.pressPrimary();
-        }
-        break;
+        return x -> x.getRightTrigger() > TRIGGER_THRESHOLD;
       case "DU":
-        if (xbox.getDPadUp()) {
-          obj.pressPrimary();
-        }
-        break;
+        return XBoxController::getDPadUp;
       case "DD":
-        if (xbox.getDPadDown()) {
-          obj.pressPrimary();
-        }
-        break;
+        return XBoxController::getDPadDown;
       case "DL":
-        if (xbox.getDPadLeft()) {
-          obj.pressPrimary();
-        }
-        break;
+        return XBoxController::getDPadLeft;
       case "DR":
-        if (xbox.getDPadRight()) {
-          obj.pressPrimary();
-        }
-        break;
+        return XBoxController::getDPadRight;
+      default:
+        return null;
     }
+  }
 
-    // shooting
-    switch (controllerSecondary) {
-      case "X":
-        if (xbox.getX()) {
-          obj.pressSecondary();
-        }
-        break;
-      case "Y":
-        if (xbox.getY()) {
-          obj.pressSecondary();
-        }
-        break;
-      case "A":
-        if (xbox.getA()) {
-          obj.pressSecondary();
-        }
-        break;
-      case "B":
-        if (xbox.getB()) {
-          obj.pressSecondary();
-        }
-        break;
-      case "LS":
-        if (xbox.getLStick()) {
-          obj.pressSecondary();
-        }
-        break;
-      case "RS":
-        if (xbox.getRStick()) {
-          obj.pressSecondary();
-        }
-        break;
-      case "LB":
-        if (xbox.getLBumper()) {
-          obj.pressSecondary();
-        }
-        break;
-      case "RB":
-        if (xbox.getRBumper()) {
-          obj.pressSecondary();
-        }
-        break;
-      case "LT":
-        if (xbox.getLeftTrigger() > 0.6f) {
-          obj.pressSecondary();
-        }
-        break;
-      case "RT":
-        if (xbox.getRightTrigger() > 0.6f) {
-          obj.pressSecondary();
-        }
-        break;
-      case "DU":
-        if (xbox.getDPadUp()) {
-          obj.pressSecondary();
-        }
-        break;
-      case "DD":
-        if (xbox.getDPadDown()) {
-          obj.pressSecondary();
-        }
-        break;
-      case "DL":
-        if (xbox.getDPadLeft()) {
-          obj.pressSecondary();
-        }
-        break;
-      case "DR":
-        if (xbox.getDPadRight()) {
-          obj.pressSecondary();
-        }
-        break;
+  /** Passes the input read this frame to a controllable and converts it into game logic. */
+  public void readInput(Controllable p) {
+    if (usingController) {
+      // dash/shoot indicator, relative to where the controllable is
+      Vector2 location = p.getLocation();
+      if (location == null) location = defaultLoc;
+      dashCoordCache.set(location.x + xbox.getRightX(), location.y - xbox.getRightY());
     }
+    p.updateDirection(dashCoordCache);
 
-    if (xbox.getB()) {
-      obj.pressInteract();
-    }
+    if (primary) p.pressPrimary();
+    if (secondary) p.pressSecondary();
+    if (tertiary) p.pressTertiary();
+    if (interact) p.pressInteract();
+    if (toggleDash) p.toggleDashMode();
+    if (pause) p.pressPause();
 
-    if (xbox.getX()) {
-      obj.pressPause();
-    }
+    p.moveHorizontal(hoff);
+    p.moveVertical(voff);
+  }
 
+  /**
+   * Reads input from an XBox controller connected to this computer to determine the actions of the
+   * player.
+   *
+   * <p>The controller keys mapped to primary and secondary actions are compiled in {@link
+   * #compileButton}.
+   */
+  private void pollController() {
+    primary = controllerPrimary != null && controllerPrimary.test(xbox);
+    secondary = controllerSecondary != null && controllerSecondary.test(xbox);
+    tertiary = false;
+    interact = xbox.getB();
+    toggleDash = false;
+    pause = xbox.getX();
     resetPressed = xbox.getY();
 
     // movement
-    float hoff = xbox.getLeftX();
-    float voff = -xbox.getLeftY();
-
-    obj.moveHorizontal(hoff);
-    obj.moveVertical(voff);
+    hoff = xbox.getLeftX();
+    voff = -xbox.getLeftY();
   }
 
   /**
-   * Reads input from the keyboard to determine the actions of the player. Then calls the
-   * corresponding methods in the controller to process the actions. Reads from the keyboard
-   * regardless of whether an X-Box controller is connected.
+   * Reads input from the keyboard to determine the actions of the player. Keys tapped since the
+   * last frame count as pressed even if they have been released.
    *
    * <p>Change the keyboard keys mapped to primary and secondary actions here.
-   *
-   * @param obj Controller for the player
    */
-  private void readKeyboard(Controllable obj) {
-    float hoff = 0;
-    float voff = 0;
-    resetPressed =
-        (Gdx.input.isKeyPressed(Input.Keys.ENTER) || Gdx.input.isKeyPressed(Input.Keys.E));
-
+  private void pollKeyboard() {
+    hoff = 0;
+    voff = 0;
     if (Gdx.input.isKeyPressed(Input.Keys.D)) {
       hoff += 1;
     }
@@ -340,48 +259,38 @@ public class InputController {
     if (Gdx.input.isKeyPressed(Input.Keys.S)) {
       voff -= 1;
     }
-    if (Gdx.input.isKeyPressed(Input.Keys.SPACE)) {
-      obj.pressPrimary();
-    }
-    if (Gdx.input.isKeyPressed(Input.Keys.SHIFT_LEFT)) {
-      obj.pressSecondary();
-    }
-    if (Gdx.input.isKeyPressed(Input.Keys.ENTER) || Gdx.input.isKeyPressed(Input.Keys.E)) {
-      obj.pressInteract();
-    }
-    if (Gdx.input.isKeyPressed(Input.Keys.T)) {
-      obj.toggleDashMode();
-    }
+    primary = keyDown(Input.Keys.SPACE);
+    // Shooting adds to the left click read by pollMouse
+    secondary |= keyDown(Input.Keys.SHIFT_LEFT);
+    interact = keyDown(Input.Keys.ENTER) || keyDown(Input.Keys.E);
+    toggleDash = keyDown(Input.Keys.T);
+    resetPressed = interact;
 
     // UI controls
-    if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
-      obj.pressPause();
-    }
-
-    obj.moveHorizontal(hoff);
-    obj.moveVertical(voff);
+    pause = events.keyTapped(Input.Keys.ESCAPE);
   }
 
   /**
-   * Reads input from the mouse to determine the actions of the player. Then calls the corresponding
-   * methods in the controller to process the actions. Reads from the mouse regardless of whether an
-   * X-Box controller is connected.
+   * Reads input from the mouse to determine the actions of the player.
    *
    * <p>Updates position in world coordinates.
-   *
-   * @param obj Controller for the player
    */
-  private void readMouse(Controllable obj) {
+  private void pollMouse() {
     dashCoordCache.set(Gdx.input.getX(), Gdx.input.getY());
     viewport.unproject(dashCoordCache);
-    obj.updateDirection(dashCoordCache);
 
-    if (Gdx.input.isButtonPressed(Input.Buttons.LEFT)) {
-      obj.pressSecondary();
-    }
-    if (Gdx.input.isButtonPressed(Input.Buttons.RIGHT)) {
-      obj.pressTertiary();
-    }
+    secondary = buttonDown(Input.Buttons.LEFT);
+    tertiary = buttonDown(Input.Buttons.RIGHT);
+  }
+
+  /** Returns whether a key is held or was tapped since the last frame */
+  private boolean keyDown(int keycode) {
+    return Gdx.input.isKeyPressed(keycode) || events.keyTapped(keycode);
+  }
+
+  /** Returns whether a mouse button is held or was clicked since the last frame */
+  private boolean buttonDown(int button) {
+    return Gdx.input.isButtonPressed(button) || events.buttonTapped(button);
   }
 
   private boolean mainInputsKeyboard() {
@@ -0,0 +1,108 @@
+package edu.cornell.jade.seasthethrone.input;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.InputAdapter;
+import com.badlogic.gdx.utils.TimeUtils;
+import java.util.Arrays;
+
+/**
+ * Records key and mouse button presses as they happen, between polls of the input.
+ *
+ * <p>Polling only sees what is held at the start of a frame, so a tap pressed and released within
+ * one frame is lost. This processor keeps every press in a ring buffer with the time it happened.
+ * Each poll drains the buffer into the set of inputs tapped since the last one. Presses older than
+ * {@link #MAX_AGE} are dropped instead, as they were recorded while nothing was polling, such as
+ * during a loading screen.
+ *
+ * <p>Presses are passed on unconsumed. This must only be used on the thread that handles input.
+ */
+class InputEvents extends InputAdapter {
+  /** Presses kept between polls; past this the oldest are overwritten */
+  static final int CAPACITY = 64;
+
+  /** Age in nanoseconds past which a press is dropped rather than counted */
+  static final long MAX_AGE = 250_000_000L;
+
+  /** Code of the first mouse button, after every key code */
+  private static final int BUTTON_CODES = Input.Keys.MAX_KEYCODE + 1;
+
+  /** Key or button code of each press in the buffer */
+  private final int[] codes;
+
+  /** Time of each press in the buffer, in nanoseconds */
+  private final long[] times;
+
+  /** Index of the oldest press in the buffer */
+  private int head;
+
+  /** Number of presses in the buffer */
+  private int size;
+
+  /** Whether each key or button was pressed before the last drain */
+  private final boolean[] tapped;
+
+  /** Creates a processor with nothing recorded */
+  InputEvents() {
+    codes = new int[CAPACITY];
+    times = new long[CAPACITY];
+    tapped = new boolean[BUTTON_CODES + Input.Buttons.FORWARD + 1];
+  }
+
+  /** Makes this the input processor if it is not already, forgetting what it recorded before */
+  void claim() {
+    if (Gdx.input.getInputProcessor() != this) {
+      Gdx.input.setInputProcessor(this);
+      head = 0;
+      size = 0;
+    }
+  }
+
+  /** Replaces the inputs tapped with those pressed since the last drain, and empties the buffer */
+  void drain() {
+    Arrays.fill(tapped, false);
+    long now = TimeUtils.nanoTime();
+    for (int i = 0; i < size; i++) {
+      int slot = (head + i) % CAPACITY;
+      if (now - times[slot] <= MAX_AGE) {
+        tapped[codes[slot]] = true;
+      }
+    }
+    head = 0;
+    size = 0;
+  }
+
+  /** Returns whether a key was pressed before the last drain */
+  boolean keyTapped(int keycode) {
+    return tapped[keycode];
+  }
+
+  /** Returns whether a mouse button was pressed before the last drain */
+  boolean buttonTapped(int button) {
+    return tapped[BUTTON_CODES + button];
+  }
+
+  @Override
+  public boolean keyDown(int keycode) {
+    if (keycode >= 0 && keycode < BUTTON_CODES) record(keycode);
+    return false;
+  }
+
+  @Override
+  public boolean touchDown(int screenX, int screenY, int pointer, int button) {
+    if (button >= 0 && BUTTON_CODES + button < tapped.length) record(BUTTON_CODES + button);
+    return false;
+  }
+
+  /** Adds a press to the buffer, overwriting the oldest if it is full */
+  private void record(int code) {
+    int slot = (head + size) % CAPACITY;
+    codes[slot] = code;
+    times[slot] = TimeUtils.nanoTime();
+    if (size < CAPACITY) {
+      size++;
+    } else {
+      head = (head + 1) % CAPACITY;
+    }
+  }
+}
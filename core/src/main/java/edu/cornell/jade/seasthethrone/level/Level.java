@@ -4,6 +4,7 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.ObjectMap;
 import com.badlogic.gdx.utils.viewport.*;
 import edu.cornell.jade.seasthethrone.BuildConfig;
 import edu.cornell.jade.seasthethrone.gamemodel.*;
@@ -26,6 +27,9 @@ public class Level {
 
   private final Array<Tile> tiles = new Array<>();
 
+  /** The tiles, grouped into chunks to find the ones in view */
+  private final TileIndex tileIndex;
+
   /** The array of tileSets, each tileSet being a nested list of textures representing tiles */
   private final Array<TextureRegion[][]> tileSets = new Array<>();
 
@@ -54,7 +58,28 @@ public class Level {
 
   private Vector2 tempPos;
 
+  /** Images uploaded ahead of time, by path, or null if the level was not prefetched */
+  private ObjectMap<String, Texture> uploaded;
+
   public Level(String fileName) {
+    this(fileName, LevelFile.read(fileName), null, true);
+  }
+
+  /**
+   * Creates a level from its parsed Tiled JSON. This must run on the GL thread.
+   *
+   * @param fileName the path of the level JSON
+   * @param levelMap the parsed level, as read by {@link LevelFile#read(String)}
+   * @param uploaded images of the level already uploaded, by path, or null if there are none
+   * @param bake whether to bake the tiles now; otherwise they must be baked through {@link
+   *     #getTileIndex()} before the level is drawn
+   */
+  Level(
+      String fileName,
+      HashMap<String, Object> levelMap,
+      ObjectMap<String, Texture> uploaded,
+      boolean bake) {
+    this.uploaded = uploaded;
     this.viewport = new ExtendViewport(DEFAULT_WIDTH, DEFAULT_HEIGHT);
     tempPos = new Vector2();
     this.name = fileName;
@@ -62,19 +87,18 @@ public class Level {
       System.out.println("Loading level:" + this.name);
     }
 
-    // Load JSON to map
-    HashMap<String, Object> levelMap = JsonHandler.jsonToMap(fileName);
     // Load in level constants
     TILE_SIZE = JsonHandler.getInt(levelMap, "tilewidth");
     TILED_WORLD_HEIGHT = JsonHandler.getInt(levelMap, "height");
     TILED_WORLD_WIDTH = JsonHandler.getInt(levelMap, "width");
+    tileIndex = new TileIndex(TILED_WORLD_WIDTH, TILED_WORLD_HEIGHT, TILE_SIZE * WORLD_SCALE);
 
     // Create tileSets
     Array<HashMap<String, Object>> tileSetsList =
         (Array<HashMap<String, Object>>) levelMap.get("tilesets");
     for (HashMap<String, Object> tileSet : tileSetsList) {
       // For each tileSet
-      Texture thisTexture = new Texture("levels/" + (String) tileSet.get("image"));
+      Texture thisTexture = loadTexture("levels/" + (String) tileSet.get("image"));
       int thisGid = JsonHandler.getInt(tileSet, "firstgid");
       firstGids.add(thisGid);
       // Split this tileSet up into textures
@@ -91,11 +115,60 @@ public class Level {
     parsePlayerLayer(getLayer(layerArray,"player"));
     parseGatesLayer(getLayer(layerArray,"gates"));
     parseTileLayer(getLayer(layerArray,"tiles"));
+    if (bake) tileIndex.bake();
     parseBossLayer(getLayer(layerArray,"bosses"));
     parseWallLayer(getLayer(layerArray,"walls"));
     parseObstacleLayer(getLayer(layerArray,"obstacles"));
     parsePortalLayer(getLayer(layerArray,"portals"));
     parseInteractableLayer(getLayer(layerArray, "interactables"));
+    this.uploaded = null;
+  }
+
+  /**
+   * Returns the path of every image a level loads, so they can be decoded before it is built.
+   *
+   * @param levelMap the parsed level JSON
+   * @return the paths of the images, without duplicates
+   */
+  static Array<String> imagePaths(HashMap<String, Object> levelMap) {
+    Array<String> paths = new Array<>();
+    Array<HashMap<String, Object>> tileSetsList =
+        (Array<HashMap<String, Object>>) levelMap.get("tilesets");
+    for (HashMap<String, Object> tileSet : tileSetsList) {
+      addPath(paths, "levels/" + (String) tileSet.get("image"));
+    }
+
+    Array<HashMap<String, Object>> layerArray =
+        (Array<HashMap<String, Object>>) levelMap.get("layers");
+    for (HashMap<String, Object> layer : layerArray) {
+      String name = (String) layer.get("name");
+      if (name.equals("background") || name.equals("foreground")) {
+        String image = (String) layer.get("image");
+        if (image != null) addPath(paths, "levels/" + image);
+      } else if (name.equals("obstacles")
+          || name.equals("portals")
+          || name.equals("interactables")) {
+        Array<HashMap<String, Object>> objects =
+            (Array<HashMap<String, Object>>) layer.get("objects");
+        if (objects == null) continue;
+        for (HashMap<String, Object> object : objects) {
+          String image = (String) object.get("name");
+          if (image != null && !image.isEmpty()) addPath(paths, image);
+        }
+      }
+    }
+    return paths;
+  }
+
+  /** Adds a path to a list if it is not there yet */
+  private static void addPath(Array<String> paths, String path) {
+    if (!paths.contains(path, false)) paths.add(path);
+  }
+
+  /** Returns the texture of an image, uploaded ahead of time if the level was prefetched */
+  private Texture loadTexture(String path) {
+    Texture texture = uploaded == null ? null : uploaded.get(path);
+    return texture == null ? new Texture(path) : texture;
   }
 
   /**
@@ -137,6 +210,15 @@ public class Level {
     return tiles;
   }
 
+  public TileIndex getTileIndex() {
+    return tileIndex;
+  }
+
+  /** Frees the baked tiles of this level. It must not be drawn afterwards. */
+  public void dispose() {
+    tileIndex.dispose();
+  }
+
   private void parseBackgroundLayer(HashMap<String, Object> bgLayer) {
     int width;
     try {
@@ -147,7 +229,7 @@ public class Level {
 
     int height = JsonHandler.getIntProperty(bgLayer, "height");
     TextureRegion texture =
-        new TextureRegion(new Texture("levels/" + JsonHandler.getString(bgLayer, "image")));
+        new TextureRegion(loadTexture("levels/" + JsonHandler.getString(bgLayer, "image")));
 
     float x, y;
     if ((String) bgLayer.get("offsetx") == null) {
@@ -178,7 +260,7 @@ public class Level {
 
     int height = JsonHandler.getIntProperty(fgLayer, "height");
     TextureRegion texture =
-            new TextureRegion(new Texture("levels/" + JsonHandler.getString(fgLayer, "image")));
+            new TextureRegion(loadTexture("levels/" + JsonHandler.getString(fgLayer, "image")));
     float x, y;
     if ((String) fgLayer.get("offsetx") == null) {
       x = width / 2f;
@@ -224,18 +306,19 @@ public class Level {
       return;
     }
 
-    Array<String> tileList = (Array<String>) tileLayer.get("data");
+    int[] tileIds = LevelFile.tileIds(tileLayer.get("data"));
 
     for (int row = 0; row < TILED_WORLD_HEIGHT; row++) {
       for (int col = 0; col < TILED_WORLD_WIDTH; col++) {
         int index = col + row * TILED_WORLD_WIDTH;
-        String s = tileList.get(index);
-        int tileSetIndex = Integer.parseInt(s) - 1;
+        int tileSetIndex = tileIds[index] - 1;
         if (tileSetIndex > 0) {
           TextureRegion tileTexture = indexToTexture(tileSetIndex);
           Vector2 pos = tiledCoordsFromIndex(index);
           pos = tiledToWorldCoords(pos);
-          tiles.add(new Tile(tileTexture, pos.x, pos.y));
+          Tile tile = new Tile(tileTexture, pos.x, pos.y);
+          tiles.add(tile);
+          tileIndex.add(tile, col, row);
         }
       }
     }
@@ -351,7 +434,7 @@ public class Level {
       }
 
       if (((String) obsWrapper.get("name")).length() > 0) {
-        obs.texture = new TextureRegion(new Texture((String) obsWrapper.get("name")));
+        obs.texture = new TextureRegion(loadTexture((String) obsWrapper.get("name")));
       }
       layers.get("obstacles").add(obs);
     }
@@ -437,7 +520,7 @@ public class Level {
 
       LevelObject portal;
       if (((String) portWrapper.get("name")).length() > 0) {
-        TextureRegion texture = new TextureRegion(new Texture((String) portWrapper.get("name")));
+        TextureRegion texture = new TextureRegion(loadTexture((String) portWrapper.get("name")));
         portal = new LevelObject(pos.x, pos.y, dims.x, dims.y, texture);
       } else {
         portal = new LevelObject(pos.x, pos.y, dims.x, dims.y);
@@ -480,7 +563,7 @@ public class Level {
 
       LevelObject obj = new LevelObject(pos.x, pos.y, dims.x, dims.y);
       if (!((String) interactWrapper.get("name")).isEmpty()) {
-        obj.texture = new TextureRegion(new Texture((String) interactWrapper.get("name")));
+        obj.texture = new TextureRegion(loadTexture((String) interactWrapper.get("name")));
       }
 
       switch (type) {
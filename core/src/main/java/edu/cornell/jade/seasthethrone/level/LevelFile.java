@@ -0,0 +1,250 @@
+package edu.cornell.jade.seasthethrone.level;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import edu.cornell.jade.seasthethrone.util.JsonHandler;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashMap;
+
+/**
+ * Reads and writes the compiled form of a Tiled level.
+ *
+ * <p>Tiled JSON stays the format levels are authored in, but parsing it turns every tile id into a
+ * string only for {@link Level} to parse it back. A compiled level holds the same tree as {@link
+ * JsonHandler#jsonToMap}, except that tile data is stored as raw ints and read back as an <code>
+ * int[]</code>. Every distinct string is stored once, and the tree refers to it by index.
+ *
+ * <p>A level compiled from <code>levels/name.json</code> is stored beside it as <code>
+ * levels/name.lvl</code>. Levels with no compiled form, or whose JSON has changed since it was
+ * compiled, are read from their JSON.
+ */
+public class LevelFile {
+  /** First bytes of every compiled level */
+  private static final int MAGIC = 0x53544c56;
+
+  /** Version of the format, bumped whenever it changes */
+  private static final int VERSION = 1;
+
+  /** Extension of a compiled level */
+  public static final String EXTENSION = ".lvl";
+
+  /** Tag of a missing value */
+  private static final byte NULL = 0;
+
+  /** Tag of a string, followed by its index in the string table */
+  private static final byte STRING = 1;
+
+  /** Tag of an object, followed by its size and each key index and value */
+  private static final byte MAP = 2;
+
+  /** Tag of an array, followed by its size and each value */
+  private static final byte ARRAY = 3;
+
+  /** Tag of an array of ints, followed by its size and each int */
+  private static final byte INTS = 4;
+
+  /** Returns the path of the compiled form of a level JSON */
+  public static String compiledName(String fileName) {
+    int dot = fileName.lastIndexOf('.');
+    return (dot < 0 ? fileName : fileName.substring(0, dot)) + EXTENSION;
+  }
+
+  /**
+   * Reads a level, from its compiled form if there is one at least as new as its JSON, and from
+   * its JSON otherwise.
+   *
+   * @param fileName the path of the level JSON
+   * @return the level as a tree of maps, arrays, strings and tile data
+   */
+  public static HashMap<String, Object> read(String fileName) {
+    FileHandle compiled = Gdx.files.internal(compiledName(fileName));
+    // A map edited since it was last compiled, as when running without a build, reads its JSON
+    if (!compiled.exists()
+        || Gdx.files.internal(fileName).lastModified() > compiled.lastModified()) {
+      return JsonHandler.jsonToMap(fileName);
+    }
+    try (DataInputStream in = new DataInputStream(compiled.read(8192))) {
+      return read(in);
+    } catch (IOException e) {
+      throw new GdxRuntimeException("Could not read level " + compiled.path(), e);
+    }
+  }
+
+  /**
+   * Reads a compiled level from a stream.
+   *
+   * @param in the stream positioned at the start of the level
+   * @return the level as a tree of maps, arrays, strings and tile data
+   * @throws IOException if the stream cannot be read
+   */
+  @SuppressWarnings("unchecked")
+  public static HashMap<String, Object> read(DataInputStream in) throws IOException {
+    if (in.readInt() != MAGIC) {
+      throw new GdxRuntimeException("Not a compiled level");
+    }
+    int version = in.readInt();
+    if (version != VERSION) {
+      throw new GdxRuntimeException("Compiled level is version " + version + ", not " + VERSION);
+    }
+
+    String[] strings = new String[in.readInt()];
+    for (int i = 0; i < strings.length; i++) {
+      strings[i] = in.readUTF();
+    }
+    Object root = readValue(in, strings);
+    if (!(root instanceof HashMap)) {
+      throw new GdxRuntimeException("Compiled level is not an object");
+    }
+    return (HashMap<String, Object>) root;
+  }
+
+  /** Reads a tagged value */
+  private static Object readValue(DataInputStream in, String[] strings) throws IOException {
+    byte tag = in.readByte();
+    switch (tag) {
+      case NULL:
+        return null;
+      case STRING:
+        return strings[in.readInt()];
+      case MAP:
+        {
+          int size = in.readInt();
+          HashMap<String, Object> map = new HashMap<>(size * 4 / 3 + 1);
+          for (int i = 0; i < size; i++) {
+            String key = strings[in.readInt()];
+            map.put(key, readValue(in, strings));
+          }
+          return map;
+        }
+      case ARRAY:
+        {
+          int size = in.readInt();
+          Array<Object> list = new Array<>(size);
+          for (int i = 0; i < size; i++) {
+            list.add(readValue(in, strings));
+          }
+          return list;
+        }
+      case INTS:
+        {
+          int[] ints = new int[in.readInt()];
+          for (int i = 0; i < ints.length; i++) {
+            ints[i] = in.readInt();
+          }
+          return ints;
+        }
+      default:
+        throw new GdxRuntimeException("Unknown tag " + tag + " in compiled level");
+    }
+  }
+
+  /**
+   * Writes a parsed level JSON in compiled form.
+   *
+   * @param root the root object of the level JSON
+   * @param out the stream to write to, which is left open
+   * @throws IOException if the stream cannot be written
+   */
+  public static void write(JsonValue root, OutputStream out) throws IOException {
+    Array<String> strings = new Array<>();
+    ObjectIntMap<String> indices = new ObjectIntMap<>();
+    collectStrings(root, strings, indices);
+
+    DataOutputStream data = new DataOutputStream(out);
+    data.writeInt(MAGIC);
+    data.writeInt(VERSION);
+    data.writeInt(strings.size);
+    for (String s : strings) {
+      data.writeUTF(s);
+    }
+    writeValue(root, data, indices);
+    data.flush();
+  }
+
+  /** Adds every key and string value under a value to the string table */
+  private static void collectStrings(
+      JsonValue value, Array<String> strings, ObjectIntMap<String> indices) {
+    if (value.name() != null) addString(value.name(), strings, indices);
+    if (value.isObject() || value.isArray()) {
+      if (isTileData(value)) return;
+      for (JsonValue child = value.child(); child != null; child = child.next()) {
+        collectStrings(child, strings, indices);
+      }
+    } else if (!value.isNull()) {
+      addString(value.asString(), strings, indices);
+    }
+  }
+
+  /** Adds a string to the string table if it is not there yet */
+  private static void addString(String s, Array<String> strings, ObjectIntMap<String> indices) {
+    if (!indices.containsKey(s)) {
+      indices.put(s, strings.size);
+      strings.add(s);
+    }
+  }
+
+  /** Writes a tagged value */
+  private static void writeValue(JsonValue value, DataOutputStream out, ObjectIntMap<String> indices)
+      throws IOException {
+    if (value.isObject()) {
+      out.writeByte(MAP);
+      out.writeInt(value.size);
+      for (JsonValue child = value.child(); child != null; child = child.next()) {
+        out.writeInt(indices.get(child.name(), -1));
+        writeValue(child, out, indices);
+      }
+    } else if (isTileData(value)) {
+      out.writeByte(INTS);
+      out.writeInt(value.size);
+      for (JsonValue child = value.child(); child != null; child = child.next()) {
+        out.writeInt(child.asInt());
+      }
+    } else if (value.isArray()) {
+      out.writeByte(ARRAY);
+      out.writeInt(value.size);
+      for (JsonValue child = value.child(); child != null; child = child.next()) {
+        writeValue(child, out, indices);
+      }
+    } else if (value.isNull()) {
+      out.writeByte(NULL);
+    } else {
+      out.writeByte(STRING);
+      out.writeInt(indices.get(value.asString(), -1));
+    }
+  }
+
+  /** Returns whether a value is the tile data of a layer, an array of nothing but integers */
+  private static boolean isTileData(JsonValue value) {
+    if (!value.isArray() || !"data".equals(value.name())) return false;
+    for (JsonValue child = value.child(); child != null; child = child.next()) {
+      if (!child.isLong()) return false;
+    }
+    return true;
+  }
+
+  /**
+   * Reads the tile ids of a tile layer, in either of the forms a level may hold them.
+   *
+   * @param data the <code>data</code> value of the layer
+   * @return the tile id of every cell, row by row
+   */
+  @SuppressWarnings("unchecked")
+  static int[] tileIds(Object data) {
+    if (data instanceof int[]) {
+      return (int[]) data;
+    }
+    Array<String> list = (Array<String>) data;
+    int[] ids = new int[list.size];
+    for (int i = 0; i < ids.length; i++) {
+      ids[i] = Integer.parseInt(list.get(i));
+    }
+    return ids;
+  }
+}
@@ -0,0 +1,238 @@
+package edu.cornell.jade.seasthethrone.level;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+import edu.cornell.jade.seasthethrone.BuildConfig;
+import edu.cornell.jade.seasthethrone.util.Workers;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Loads the levels the portals of the current level lead to before the player walks through them.
+ *
+ * <p>Reading a level's Tiled JSON and decoding its images takes long enough to hitch a frame, and
+ * none of it needs the GL context, so it runs on a worker thread. What is left must run on the GL
+ * thread, so {@link #update} does it in small steps, one per frame: uploading one image, then
+ * parsing the layers, then baking a few chunks of tiles at a time. A level is only handed out once
+ * every step is done.
+ */
+public class LevelPrefetcher {
+  /** Most chunks of tiles baked in one frame */
+  private static final int CHUNKS_PER_FRAME = 4;
+
+  /** A level read and decoded on the worker, waiting to be built */
+  private static class Prefetched {
+    /** The parsed level JSON */
+    final HashMap<String, Object> levelMap;
+
+    /** Every image of the level not uploaded yet, by path */
+    final ObjectMap<String, Pixmap> decoded;
+
+    Prefetched(HashMap<String, Object> levelMap, ObjectMap<String, Pixmap> decoded) {
+      this.levelMap = levelMap;
+      this.decoded = decoded;
+    }
+
+    /** Frees the decoded images not uploaded yet */
+    void dispose() {
+      for (Pixmap pixmap : decoded.values()) {
+        pixmap.dispose();
+      }
+      decoded.clear();
+    }
+  }
+
+  /** A level being prefetched, with how far it has been built */
+  private static class Build {
+    /** The result of reading the level on the worker */
+    final Future<Prefetched> read;
+
+    /** The level read, or null until the build has waited for it */
+    Prefetched prefetched;
+
+    /** The images uploaded so far, by path */
+    final ObjectMap<String, Texture> uploaded = new ObjectMap<>();
+
+    /** The level, or null until its layers are parsed */
+    Level level;
+
+    Build(Future<Prefetched> read) {
+      this.read = read;
+    }
+  }
+
+  /** The thread levels are read on */
+  private final ExecutorService worker;
+
+  /** Levels being prefetched, by file name, in the order they were asked for */
+  private final Array<String> order;
+
+  /** The build of every level in the order */
+  private final ObjectMap<String, Build> pending;
+
+  /** Creates a prefetcher with its own worker thread */
+  public LevelPrefetcher() {
+    worker = Workers.newSingleThread("level-prefetch");
+    order = new Array<>();
+    pending = new ObjectMap<>();
+  }
+
+  /**
+   * Starts reading every level a level's portals lead to that has not been loaded yet.
+   *
+   * @param level the level the player is in
+   * @param loaded the levels built so far, by file name
+   */
+  public void prefetch(Level level, Map<String, Level> loaded) {
+    Array<LevelObject> portals = level.getLayers().get("portals");
+    if (portals == null) return;
+    for (LevelObject portal : portals) {
+      String target = portal.target;
+      if (target == null || loaded.containsKey(target) || pending.containsKey(target)) continue;
+      if (!Gdx.files.internal(target).exists()) continue;
+
+      if (BuildConfig.DEBUG) {
+        System.out.println("Prefetching level:" + target);
+      }
+      order.add(target);
+      pending.put(target, new Build(worker.submit(() -> read(target))));
+    }
+  }
+
+  /**
+   * Takes one step in building the first prefetched level that has finished reading, if any. This
+   * must run on the GL thread, once per frame.
+   *
+   * @param loaded the levels built so far, by file name, which a finished level is added to
+   */
+  public void update(Map<String, Level> loaded) {
+    for (int i = 0; i < order.size; i++) {
+      String fileName = order.get(i);
+      Build build = pending.get(fileName);
+      if (!build.read.isDone()) continue;
+
+      if (step(fileName, build)) {
+        finish(fileName, build, loaded);
+      }
+      return;
+    }
+  }
+
+  /**
+   * Returns a level, finishing its build if it is being prefetched and loading it outright if it
+   * is not. This must run on the GL thread.
+   *
+   * @param fileName the path of the level JSON
+   * @param loaded the levels built so far, by file name, which the level is added to
+   * @return the level
+   */
+  public Level obtain(String fileName, Map<String, Level> loaded) {
+    Level level = loaded.get(fileName);
+    Build build = pending.get(fileName);
+    if (level == null && build != null) {
+      // The level is needed now, so every step left runs at once
+      while (!step(fileName, build)) {}
+      finish(fileName, build, loaded);
+      level = build.level;
+    }
+    if (level == null) {
+      level = new Level(fileName);
+    }
+    loaded.put(fileName, level);
+    return level;
+  }
+
+  /**
+   * Takes the next step in building a level, waiting for it to be read if need be.
+   *
+   * @return whether the build is over, either done or failed with a null level
+   */
+  private boolean step(String fileName, Build build) {
+    if (build.prefetched == null) {
+      try {
+        build.prefetched = build.read.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new GdxRuntimeException("Interrupted while prefetching " + fileName, e);
+      } catch (ExecutionException e) {
+        // Loading it again when it is needed reports the error where it matters
+        Gdx.app.error("LevelPrefetcher", "Could not prefetch " + fileName, e.getCause());
+        return true;
+      }
+    }
+
+    ObjectMap<String, Pixmap> decoded = build.prefetched.decoded;
+    if (decoded.size > 0) {
+      String path = decoded.keys().next();
+      Pixmap pixmap = decoded.remove(path);
+      build.uploaded.put(path, new Texture(pixmap));
+      pixmap.dispose();
+      return false;
+    }
+    if (build.level == null) {
+      build.level = new Level(fileName, build.prefetched.levelMap, build.uploaded, false);
+      return false;
+    }
+    return build.level.getTileIndex().bake(CHUNKS_PER_FRAME);
+  }
+
+  /**
+   * Stops the worker and frees every level still being prefetched. This must run on the GL thread,
+   * and the prefetcher must not be used afterwards.
+   */
+  public void dispose() {
+    // Levels not started yet are dropped, while one being read is waited for so it can be freed
+    for (Build build : pending.values()) {
+      build.read.cancel(false);
+    }
+    worker.shutdown();
+    for (Build build : pending.values()) {
+      if (build.prefetched == null && !build.read.isCancelled()) {
+        try {
+          build.prefetched = build.read.get();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+          // A failed read has already freed what it decoded
+        }
+      }
+      if (build.prefetched != null) build.prefetched.dispose();
+      if (build.level != null) build.level.dispose();
+      for (Texture texture : build.uploaded.values()) {
+        texture.dispose();
+      }
+    }
+    pending.clear();
+    order.clear();
+  }
+
+  /** Stops tracking a build that is over, adding its level to the loaded ones if it has one */
+  private void finish(String fileName, Build build, Map<String, Level> loaded) {
+    pending.remove(fileName);
+    order.removeValue(fileName, false);
+    if (build.level != null) loaded.put(fileName, build.level);
+  }
+
+  /** Reads a level and decodes its images. This runs on the worker. */
+  private static Prefetched read(String fileName) {
+    HashMap<String, Object> levelMap = LevelFile.read(fileName);
+    ObjectMap<String, Pixmap> decoded = new ObjectMap<>();
+    Prefetched prefetched = new Prefetched(levelMap, decoded);
+    try {
+      for (String path : Level.imagePaths(levelMap)) {
+        decoded.put(path, new Pixmap(Gdx.files.internal(path)));
+      }
+    } catch (RuntimeException e) {
+      prefetched.dispose();
+      throw e;
+    }
+    return prefetched;
+  }
+}
@@ -0,0 +1,229 @@
+package edu.cornell.jade.seasthethrone.level;
+
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import edu.cornell.jade.seasthethrone.render.Renderable;
+import edu.cornell.jade.seasthethrone.render.RenderingEngine;
+
+/**
+ * The tiles of a level, grouped into square chunks of the Tiled grid and baked into meshes.
+ *
+ * <p>Tiles never move once a level is loaded, so each chunk's vertices are uploaded to a {@link
+ * SpriteCache} once when the level is built. Drawing the map then costs one call per chunk in view,
+ * however large the map is, and no vertex work on the CPU.
+ *
+ * <p>The caches of every level draw with one shared shader, which {@link #disposeShader} frees at
+ * the end of the application.
+ */
+public class TileIndex implements Renderable, Disposable {
+  /** Side length of a chunk in tiles */
+  public static final int CHUNK_SIZE = 16;
+
+  /** Most sprites a cache can index with 16 bit indices */
+  private static final int MAX_INDEXED_SPRITES = 8191;
+
+  /** The shader every cache draws with, or null before the first bake */
+  private static ShaderProgram shader;
+
+  /** Tiles of every chunk, row by row from the top of the map, until the chunks are baked */
+  private Array<Tile>[] chunks;
+
+  /** Cache id of every chunk, or -1 if it has no tiles */
+  private final int[] cacheIds;
+
+  /** The baked meshes of every chunk, or null before baking or if the map has no tiles */
+  private SpriteCache cache;
+
+  /** Number of tiles added */
+  private int size;
+
+  /** Index of the next chunk to bake */
+  private int nextChunk;
+
+  /** Number of chunks across the map */
+  private final int chunkCols;
+
+  /** Number of chunks down the map */
+  private final int chunkRows;
+
+  /** Side length of a tile in world units */
+  private final float tileSize;
+
+  /** World x coordinate of the left edge of the map */
+  private final float left;
+
+  /** World y coordinate of the top edge of the map */
+  private final float top;
+
+  /**
+   * Creates an empty index for a map centered on the world origin.
+   *
+   * @param width width of the map in tiles
+   * @param height height of the map in tiles
+   * @param tileSize side length of a tile in world units
+   */
+  @SuppressWarnings("unchecked")
+  public TileIndex(int width, int height, float tileSize) {
+    this.tileSize = tileSize;
+    chunkCols = (width + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    chunkRows = (height + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    left = -width * tileSize / 2f;
+    top = height * tileSize / 2f;
+    chunks = (Array<Tile>[]) new Array[chunkCols * chunkRows];
+    cacheIds = new int[chunks.length];
+  }
+
+  /**
+   * Adds a tile to the chunk containing its cell of the Tiled grid. Tiles may only be added before
+   * the chunks are baked.
+   *
+   * @param tile the tile to add
+   * @param col column of the tile, from the left of the map
+   * @param row row of the tile, from the top of the map
+   */
+  public void add(Tile tile, int col, int row) {
+    int i = (row / CHUNK_SIZE) * chunkCols + col / CHUNK_SIZE;
+    if (chunks[i] == null) {
+      chunks[i] = new Array<>(false, CHUNK_SIZE * CHUNK_SIZE);
+    }
+    chunks[i].add(tile);
+    size++;
+  }
+
+  /**
+   * Uploads the tiles of every chunk to the GPU. This must run on the GL thread, once every tile has
+   * been added.
+   */
+  public void bake() {
+    bake(Integer.MAX_VALUE);
+  }
+
+  /**
+   * Uploads the tiles of the next few chunks to the GPU, so baking can be spread over frames. This
+   * must run on the GL thread, once every tile has been added. The index must not be drawn until
+   * baking is done.
+   *
+   * @param maxChunks the most chunks holding tiles to upload
+   * @return whether every chunk is baked
+   */
+  public boolean bake(int maxChunks) {
+    if (chunks == null) return true;
+    if (size > 0 && cache == null) {
+      // Past the limit of 16 bit indices, every sprite stores all six of its vertices instead
+      if (shader == null) shader = SpriteCache.createDefaultShader();
+      cache = new SpriteCache(size, shader, size <= MAX_INDEXED_SPRITES);
+    }
+
+    int baked = 0;
+    for (; nextChunk < chunks.length && baked < maxChunks; nextChunk++) {
+      int i = nextChunk;
+      cacheIds[i] = -1;
+      if (chunks[i] == null) continue;
+
+      cache.beginCache();
+      for (Tile tile : chunks[i]) {
+        TextureRegion region = tile.getTexture();
+        float x = tile.getPosition().x - tileSize / 2;
+        float y = tile.getPosition().y - tileSize / 2;
+        cache.add(region, x, y, tileSize, tileSize);
+      }
+      cacheIds[i] = cache.endCache();
+      baked++;
+    }
+    if (nextChunk < chunks.length) return false;
+    chunks = null;
+    return true;
+  }
+
+  /**
+   * Draws the chunks overlapping a rectangle, one call each. The cache must be in an active
+   * <code>begin()</code> pass.
+   *
+   * @param bounds the rectangle in world coordinates, or null to draw every chunk
+   */
+  public void drawChunks(Rectangle bounds) {
+    if (cache == null) return;
+
+    int minCol = 0;
+    int maxCol = chunkCols - 1;
+    int minRow = 0;
+    int maxRow = chunkRows - 1;
+    if (bounds != null) {
+      minCol = Math.max(chunkCol(bounds.x), minCol);
+      maxCol = Math.min(chunkCol(bounds.x + bounds.width), maxCol);
+      minRow = Math.max(chunkRow(bounds.y + bounds.height), minRow);
+      maxRow = Math.min(chunkRow(bounds.y), maxRow);
+    }
+
+    for (int r = minRow; r <= maxRow; r++) {
+      for (int c = minCol; c <= maxCol; c++) {
+        int id = cacheIds[r * chunkCols + c];
+        if (id != -1) {
+          cache.draw(id);
+        }
+      }
+    }
+  }
+
+  /** Returns the baked meshes, or null if there are none */
+  public SpriteCache getCache() {
+    return cache;
+  }
+
+  /** Frees the baked meshes. The index must not be drawn afterwards. */
+  @Override
+  public void dispose() {
+    if (cache != null) {
+      cache.dispose();
+      cache = null;
+    }
+  }
+
+  /**
+   * Frees the shader shared by every index. This should only be called near the end of the
+   * application, once every index is disposed.
+   */
+  public static void disposeShader() {
+    if (shader != null) {
+      shader.dispose();
+      shader = null;
+    }
+  }
+
+  /** Returns the column of chunks containing a world x coordinate */
+  private int chunkCol(float x) {
+    return Math.floorDiv(MathUtils.floor((x - left) / tileSize), CHUNK_SIZE);
+  }
+
+  /** Returns the row of chunks containing a world y coordinate */
+  private int chunkRow(float y) {
+    return Math.floorDiv(MathUtils.floor((top - y) / tileSize), CHUNK_SIZE);
+  }
+
+  @Override
+  public void draw(RenderingEngine renderer) {
+    renderer.drawTiles(this);
+  }
+
+  @Override
+  public void progressFrame() {}
+
+  @Override
+  public void alwaysUpdate() {}
+
+  @Override
+  public void neverUpdate() {}
+
+  @Override
+  public void setAlwaysAnimate(boolean animate) {}
+
+  @Override
+  public boolean alwaysAnimate() {
+    return false;
+  }
+}
@@ -1151,6 +1151,15 @@ public abstract class ComplexModel extends Model {
     return (bodies.size > 0 && bodies.get(0).isRemoved());
   }
 
+  @Override
+  public void setRemovalQueue(Array<Model> queue) {
+    super.setRemovalQueue(queue);
+    // Removal is decided by the root body, so it registers on behalf of this model
+    if (bodies.size > 0) {
+      bodies.get(0).setRemovalQueue(queue, this);
+    }
+  }
+
   /** Creates a new complex physics object at the origin. */
   protected ComplexModel() {
     this(0, 0);
@@ -2,6 +2,7 @@ package edu.cornell.jade.seasthethrone.model;
 
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
+import com.badlogic.gdx.utils.Array;
 import edu.cornell.jade.seasthethrone.physics.CollisionMask;
 
 public abstract class Model {
@@ -32,6 +33,12 @@ public abstract class Model {
   /** Whether the object has changed shape and needs a new fixture */
   private boolean isDirty;
 
+  /** Queue this object registers with when flagged for garbage collection, or null */
+  private Array<Model> removalQueue;
+
+  /** The model registered with the removal queue (this, or a model owning this one) */
+  private Model removalHandle;
+
   /// Caching objects
   /** A cache value for when the user wants to access the body position */
   protected Vector2 positionCache = new Vector2();
@@ -45,6 +52,41 @@ public abstract class Model {
   /** A cache value for when the user wants to access the drawing scale */
   protected Vector2 scaleCache = new Vector2();
 
+  /** A cache value for when the user wants to access the interpolated position */
+  protected Vector2 renderPositionCache = new Vector2();
+
+  /// Interpolation
+  /** Squared distance past which a move in a single step is a teleport and is not interpolated */
+  private static final float TELEPORT_DISTANCE_SQUARED = 4f * 4f;
+
+  /** The position at the start of the current simulation step */
+  protected Vector2 previousPosition = new Vector2();
+
+  /**
+   * Records the current position as the start of a simulation step, so drawing can interpolate
+   * between the last two steps.
+   */
+  public void savePreviousPosition() {
+    previousPosition.set(getPosition());
+  }
+
+  /**
+   * Returns the position to draw this body at, between its position at the start of the last
+   * simulation step and its current position.
+   *
+   * <p>Like {@link #getPosition()}, this returns the same vector each time it is called.
+   *
+   * @param alpha how far through the next step the frame is drawn, between 0 and 1
+   * @return the interpolated position for this physics body
+   */
+  public Vector2 getRenderPosition(float alpha) {
+    Vector2 pos = getPosition();
+    if (previousPosition.dst2(pos) > TELEPORT_DISTANCE_SQUARED) {
+      return pos;
+    }
+    return renderPositionCache.set(previousPosition).lerp(pos, alpha);
+  }
+
   /// BodyDef Methods
   /**
    * Returns the body type for Box2D physics
@@ -768,9 +810,36 @@ public abstract class Model {
    * @param value whether our object has been flagged for garbage collection
    */
   public void markRemoved(boolean value) {
+    if (value && !toRemove && removalQueue != null) {
+      removalQueue.add(removalHandle);
+    }
     toRemove = value;
   }
 
+  /**
+   * Sets the queue this object registers with when it is flagged for garbage collection.
+   *
+   * <p>This is set by the physics engine owning the object, so that removal only has to visit the
+   * objects which were actually flagged.
+   *
+   * @param queue the removal queue, or null to stop registering
+   */
+  public void setRemovalQueue(Array<Model> queue) {
+    setRemovalQueue(queue, this);
+  }
+
+  /**
+   * Sets the queue this object registers with, on behalf of another model, when it is flagged for
+   * garbage collection.
+   *
+   * @param queue the removal queue, or null to stop registering
+   * @param handle the model to register
+   */
+  protected void setRemovalQueue(Array<Model> queue, Model handle) {
+    removalQueue = queue;
+    removalHandle = handle;
+  }
+
   /**
    * Returns true if the shape information must be updated.
    *
@@ -0,0 +1,320 @@
+package edu.cornell.jade.seasthethrone.physics;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import edu.cornell.jade.seasthethrone.gamemodel.BulletModel;
+import edu.cornell.jade.seasthethrone.gamemodel.ObstacleModel;
+import edu.cornell.jade.seasthethrone.gamemodel.player.PlayerBodyModel;
+import edu.cornell.jade.seasthethrone.gamemodel.player.PlayerModel;
+import edu.cornell.jade.seasthethrone.gamemodel.player.PlayerSpearModel;
+
+import java.util.Arrays;
+
+/**
+ * Simulates enemy bullets outside of Box2D.
+ *
+ * <p>Bullets are stored as a structure of arrays indexed by a slot number, and are integrated in a
+ * single tight loop every step. Collisions against the player body, the player spear and obstacles
+ * are found through a {@link SpatialHashGrid}, tested directly and forwarded to the owning {@link
+ * PhysicsEngine}, so the game logic in <code>handleCollision</code> is shared with the Box2D path.
+ *
+ * <p>A {@link BulletModel} added to this engine keeps its identity (so delayed actions, pools and
+ * rendering keep working), but reads and writes its position and velocity through the slot it was
+ * given here. Removal is swap-with-last, so slots are not stable across a {@link #remove}.
+ */
+public class BulletEngine {
+  /** Flag set on bullets which cannot be destroyed by the spear */
+  private static final byte FLAG_UNBREAKABLE = 0x01;
+
+  /** Flag set while a bullet overlaps the player body */
+  private static final byte FLAG_TOUCHING_BODY = 0x02;
+
+  /** Flag set while a bullet overlaps the player spear */
+  private static final byte FLAG_TOUCHING_SPEAR = 0x04;
+
+  /** Flag set while a bullet overlaps an obstacle */
+  private static final byte FLAG_TOUCHING_OBSTACLE = 0x08;
+
+  /** All of the flags tracking current contacts */
+  private static final int TOUCHING_MASK =
+      FLAG_TOUCHING_BODY | FLAG_TOUCHING_SPEAR | FLAG_TOUCHING_OBSTACLE;
+
+  /** Shift moving the current contact flags to the previous step's contact flags */
+  private static final int WAS_SHIFT = 4;
+
+  /** Initial number of slots allocated */
+  private static final int INITIAL_CAPACITY = 256;
+
+  /** The x coordinate of every live bullet */
+  private float[] x;
+
+  /** The y coordinate of every live bullet */
+  private float[] y;
+
+  /** The x velocity of every live bullet */
+  private float[] vx;
+
+  /** The y velocity of every live bullet */
+  private float[] vy;
+
+  /** The radius of every live bullet */
+  private float[] radius;
+
+  /** Collision and type flags of every live bullet */
+  private byte[] flags;
+
+  /** The model owning each slot */
+  private BulletModel[] models;
+
+  /** The number of slots in use */
+  private int size;
+
+  /** The physics engine collisions are reported to */
+  private final PhysicsEngine physicsEngine;
+
+  /** The player bullets can collide with, or null if there is none */
+  private PlayerModel player;
+
+  /** The obstacles bullets are destroyed by */
+  private final Array<ObstacleModel> obstacles;
+
+  /** Cache array for grid query results */
+  private final IntArray hits;
+
+  /**
+   * Constructs an empty bullet engine.
+   *
+   * @param physicsEngine the engine collisions are reported to
+   */
+  public BulletEngine(PhysicsEngine physicsEngine) {
+    this.physicsEngine = physicsEngine;
+    this.obstacles = new Array<>();
+    this.hits = new IntArray();
+    x = new float[INITIAL_CAPACITY];
+    y = new float[INITIAL_CAPACITY];
+    vx = new float[INITIAL_CAPACITY];
+    vy = new float[INITIAL_CAPACITY];
+    radius = new float[INITIAL_CAPACITY];
+    flags = new byte[INITIAL_CAPACITY];
+    models = new BulletModel[INITIAL_CAPACITY];
+    size = 0;
+  }
+
+  /**
+   * Sets the player bullets are tested against.
+   *
+   * @param player the player model
+   */
+  public void setPlayer(PlayerModel player) {
+    this.player = player;
+  }
+
+  /**
+   * Adds an obstacle bullets are destroyed by.
+   *
+   * @param obstacle the obstacle to add
+   */
+  public void addObstacle(ObstacleModel obstacle) {
+    obstacles.add(obstacle);
+  }
+
+  /** Returns the number of live bullets */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Adds a bullet to the engine, copying its current state into a fresh slot.
+   *
+   * @param b the bullet to add
+   */
+  public void add(BulletModel b) {
+    if (size == models.length) grow(size * 2);
+    int i = size++;
+    x[i] = b.getX();
+    y[i] = b.getY();
+    vx[i] = b.getVX();
+    vy[i] = b.getVY();
+    radius[i] = b.shape.getRadius();
+    flags[i] = b.isUnbreakable() ? FLAG_UNBREAKABLE : 0;
+    models[i] = b;
+    b.attach(this, i);
+  }
+
+  /**
+   * Integrates every bullet by one step and resolves collisions.
+   *
+   * <p>The grid is rebuilt from the integrated positions, with grid indices equal to slots, and is
+   * then used so that collision tests only look at bullets near the player and obstacles.
+   *
+   * @param delta the length of the step in seconds
+   * @param grid the grid to rebuild and query
+   */
+  public void step(float delta, SpatialHashGrid<BulletModel> grid) {
+    grid.clear();
+    for (int i = 0; i < size; i++) {
+      x[i] += vx[i] * delta;
+      y[i] += vy[i] * delta;
+      // Remember last step's contacts so only new contacts are reported
+      flags[i] = (byte) ((flags[i] & FLAG_UNBREAKABLE) | ((flags[i] & TOUCHING_MASK) << WAS_SHIFT));
+      grid.add(models[i], x[i], y[i], radius[i]);
+    }
+    grid.build();
+
+    if (player != null) collidePlayer(grid);
+    for (ObstacleModel o : obstacles) collideObstacle(o, grid);
+  }
+
+  /**
+   * Removes a bullet from the engine, detaching it from its slot. The last bullet is moved into the
+   * freed slot.
+   *
+   * @param b the bullet to remove
+   */
+  public void remove(BulletModel b) {
+    if (b.isAttached()) removeAt(b.getSlot());
+  }
+
+  /** Removes every bullet from the engine. */
+  public void clear() {
+    for (int i = 0; i < size; i++) {
+      models[i].detach();
+      models[i] = null;
+    }
+    size = 0;
+    player = null;
+    obstacles.clear();
+  }
+
+  /// Slot accessors used by attached bullet models
+
+  public float getX(int slot) {
+    return x[slot];
+  }
+
+  public float getY(int slot) {
+    return y[slot];
+  }
+
+  public float getVX(int slot) {
+    return vx[slot];
+  }
+
+  public float getVY(int slot) {
+    return vy[slot];
+  }
+
+  public void setX(int slot, float value) {
+    x[slot] = value;
+  }
+
+  public void setY(int slot, float value) {
+    y[slot] = value;
+  }
+
+  public void setVX(int slot, float value) {
+    vx[slot] = value;
+  }
+
+  public void setVY(int slot, float value) {
+    vy[slot] = value;
+  }
+
+  /** Tests the bullets near the player against the player body and (if extended) the spear. */
+  private void collidePlayer(SpatialHashGrid<BulletModel> grid) {
+    PlayerBodyModel body = player.getBodyModel();
+    hits.clear();
+    grid.queryCircle(body.getX(), body.getY(), body.getRadius(), hits);
+    for (int k = 0; k < hits.size; k++) {
+      int i = hits.get(k);
+      if (models[i].isRemoved()) continue;
+      flags[i] |= FLAG_TOUCHING_BODY;
+      if ((flags[i] & (FLAG_TOUCHING_BODY << WAS_SHIFT)) == 0) {
+        physicsEngine.handleCollision(body, models[i], null);
+      }
+    }
+
+    PlayerSpearModel spear = player.getSpearModel();
+    if (!spear.isActive()) return;
+    float sx = spear.getX();
+    float sy = spear.getY();
+    float cos = MathUtils.cos(-spear.getAngle());
+    float sin = MathUtils.sin(-spear.getAngle());
+    float hw = spear.getWidth() / 2f;
+    float hh = spear.getHeight() / 2f;
+
+    hits.clear();
+    grid.queryCircle(sx, sy, (float) Math.sqrt(hw * hw + hh * hh), hits);
+    for (int k = 0; k < hits.size; k++) {
+      int i = hits.get(k);
+      if ((flags[i] & FLAG_UNBREAKABLE) != 0 || models[i].isRemoved()) continue;
+
+      // Circle against the spear box in the spear's local frame
+      float lx = x[i] - sx;
+      float ly = y[i] - sy;
+      float rx = lx * cos - ly * sin;
+      float ry = lx * sin + ly * cos;
+      float cx = rx - MathUtils.clamp(rx, -hw, hw);
+      float cy = ry - MathUtils.clamp(ry, -hh, hh);
+      if (cx * cx + cy * cy >= radius[i] * radius[i]) continue;
+      flags[i] |= FLAG_TOUCHING_SPEAR;
+      if ((flags[i] & (FLAG_TOUCHING_SPEAR << WAS_SHIFT)) == 0) {
+        physicsEngine.handleCollision(spear, models[i]);
+      }
+    }
+  }
+
+  /** Tests the bullets near an obstacle against that obstacle. */
+  private void collideObstacle(ObstacleModel o, SpatialHashGrid<BulletModel> grid) {
+    float hw = o.getWidth() / 2f;
+    float hh = o.getHeight() / 2f;
+    hits.clear();
+    grid.queryAABB(o.getX() - hw, o.getY() - hh, o.getX() + hw, o.getY() + hh, hits);
+    for (int k = 0; k < hits.size; k++) {
+      int i = hits.get(k);
+      if (models[i].isRemoved()) continue;
+      boolean wasTouching = (flags[i] & (FLAG_TOUCHING_OBSTACLE << WAS_SHIFT)) != 0;
+      flags[i] |= FLAG_TOUCHING_OBSTACLE;
+      if (wasTouching) continue;
+      boolean moving = vx[i] != 0 || vy[i] != 0;
+      if ((flags[i] & FLAG_UNBREAKABLE) == 0 || moving) models[i].markRemoved(true);
+    }
+  }
+
+  /**
+   * Removes the bullet in a slot, moving the last bullet into its place.
+   *
+   * @param i the slot to remove
+   */
+  private void removeAt(int i) {
+    models[i].detach();
+    int last = --size;
+    if (i != last) {
+      x[i] = x[last];
+      y[i] = y[last];
+      vx[i] = vx[last];
+      vy[i] = vy[last];
+      radius[i] = radius[last];
+      flags[i] = flags[last];
+      models[i] = models[last];
+      models[i].attach(this, i);
+    }
+    models[last] = null;
+  }
+
+  /**
+   * Resizes all of the slot arrays.
+   *
+   * @param capacity the new number of slots
+   */
+  private void grow(int capacity) {
+    x = Arrays.copyOf(x, capacity);
+    y = Arrays.copyOf(y, capacity);
+    vx = Arrays.copyOf(vx, capacity);
+    vy = Arrays.copyOf(vy, capacity);
+    radius = Arrays.copyOf(radius, capacity);
+    flags = Arrays.copyOf(flags, capacity);
+    models = Arrays.copyOf(models, capacity);
+  }
+}
@@ -4,6 +4,7 @@ import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
 import edu.cornell.jade.seasthethrone.gamemodel.*;
 import edu.cornell.jade.seasthethrone.gamemodel.boss.BossModel;
 import edu.cornell.jade.seasthethrone.gamemodel.boss.CrabBossModel;
@@ -14,9 +15,9 @@ import edu.cornell.jade.seasthethrone.gamemodel.player.*;
 import edu.cornell.jade.seasthethrone.model.Model;
 import edu.cornell.jade.seasthethrone.util.PooledList;
 import edu.cornell.jade.seasthethrone.BuildConfig;
+import edu.cornell.jade.seasthethrone.bpedit.BulletPools;
 import edu.cornell.jade.seasthethrone.audio.SoundPlayer;
 
-import java.util.Iterator;
 import java.util.Optional;
 
 public class PhysicsEngine implements ContactListener {
@@ -24,6 +25,12 @@ public class PhysicsEngine implements ContactListener {
   /** All the objects in the world. */
   protected PooledList<Model> objects = new PooledList<Model>();
 
+  /** The list node of every object in the world, for O(1) removal */
+  private ObjectMap<Model, PooledList<Model>.Entry> entries = new ObjectMap<>();
+
+  /** Objects marked for removal since the last update, drained once per step */
+  private Array<Model> removalQueue = new Array<>();
+
   /** The Box2D world */
   private World world;
 
@@ -51,12 +58,47 @@ public class PhysicsEngine implements ContactListener {
   /** To keep track of the continuous player-boss collision */
   private Optional<Contact> playerBossCollision;
 
-  public PhysicsEngine(Rectangle bounds, World world, SoundPlayer soundPlayer) {
+  /** Simulates enemy bullets outside of Box2D, or null if they are Box2D bodies */
+  private BulletEngine bulletEngine;
+
+  /** Width of a cell of the bullet grid in world units */
+  private static final float BULLET_CELL_SIZE = 2f;
+
+  /** Number of hash buckets in the bullet grid */
+  private static final int BULLET_GRID_BUCKETS = 1024;
+
+  /**
+   * Spatial index of every live enemy bullet, rebuilt every step, or null if Box2D simulates them.
+   * Box2D already finds the contacts of its bodies, so only culling would use the grid, and that
+   * is no cheaper through it than a pass over each spawner's own bullets.
+   */
+  private final SpatialHashGrid<BulletModel> bulletGrid;
+
+  /** Pools enemy bullets added to this engine are drawn from */
+  private final BulletPools bulletPools;
+
+  /**
+   * Constructs a physics engine for a level.
+   *
+   * @param bounds the bounds of the level
+   * @param world the Box2D world to simulate
+   * @param soundPlayer player for sound effects
+   * @param bulletPools the pools spawners adding bullets to this engine draw from
+   */
+  public PhysicsEngine(
+      Rectangle bounds, World world, SoundPlayer soundPlayer, BulletPools bulletPools) {
     this.soundPlayer = soundPlayer;
     this.world = world;
     this.bounds = new Rectangle(bounds);
     world.setContactListener(this);
     playerBossCollision = Optional.empty();
+    this.bulletPools = bulletPools;
+    if (BuildConfig.DATA_ORIENTED_BULLETS) {
+      bulletGrid = new SpatialHashGrid<>(BULLET_CELL_SIZE, BULLET_GRID_BUCKETS);
+      bulletEngine = new BulletEngine(this);
+    } else {
+      bulletGrid = null;
+    }
   }
 
   public PooledList<Model> getObjects() {
@@ -67,6 +109,28 @@ public class PhysicsEngine implements ContactListener {
     return enemies;
   }
 
+  /**
+   * Returns the spatial index of the live enemy bullets.
+   *
+   * <p>The grid is rebuilt during {@link #update(float)}, so it holds the bullet positions as of the
+   * last physics step. Bullets created or moved since then should be checked against their current
+   * position.
+   *
+   * @return the bullet grid, or null if enemy bullets are Box2D bodies
+   */
+  public SpatialHashGrid<BulletModel> getBulletGrid() {
+    return bulletGrid;
+  }
+
+  /**
+   * Returns the pools spawners adding bullets to this engine draw from.
+   *
+   * @return the bullet pools
+   */
+  public BulletPools getBulletPools() {
+    return bulletPools;
+  }
+
   public void dispose() {
 //    Iterator<PooledList<Model>.Entry> iterator = objects.entryIterator();
 //    while (iterator.hasNext()) {
@@ -74,7 +138,13 @@ public class PhysicsEngine implements ContactListener {
 //      Model obj = entry.getValue();
 //      obj.markRemoved(true);
 //    }
+    for (Model obj : objects) {
+      obj.setRemovalQueue(null);
+    }
     objects.clear();
+    entries.clear();
+    removalQueue.clear();
+    if (bulletEngine != null) bulletEngine.clear();
     //    world.dispose();
   }
 
@@ -111,31 +181,26 @@ public class PhysicsEngine implements ContactListener {
   public void update(float delta) {
     // turn the physics engine crank
     world.step(delta, 8, 4);
+    if (bulletEngine != null) {
+      bulletEngine.step(delta, bulletGrid);
+    }
     hasSpeared = false;
-    // Garbage collect the deleted objects.
-    // Note how we use the linked list nodes to delete O(1) in place.
-    // This is O(n) without copying.
-    Iterator<PooledList<Model>.Entry> iterator = objects.entryIterator();
-    while (iterator.hasNext()) {
-      PooledList<Model>.Entry entry = iterator.next();
-      Model obj = entry.getValue();
-      if (obj.isRemoved()) {
-        obj.deactivatePhysics(world);
-        if (obj instanceof EnemyModel) {
-          enemies.removeValue((EnemyModel) obj, true);
-        }
-        entry.remove();
-      } else {
-        if (obj instanceof PlayerModel) {
-          // Resolve knockback flag
-          PlayerBodyModel body = ((PlayerModel) obj).getBodyModel();
-          if (body.isJustKnocked()) {
-            applyKnockback(body, body.getKnockingBodyPos(), body.getKnockbackForce());
-            body.setJustKnocked(false);
-          }
+
+    // Garbage collect the deleted objects. Only the objects which registered
+    // with the removal queue are visited, and each is unlinked in O(1).
+    drainRemovalQueue();
+
+    for (Model obj : objects) {
+      if (obj.isRemoved()) continue;
+      if (obj instanceof PlayerModel) {
+        // Resolve knockback flag
+        PlayerBodyModel body = ((PlayerModel) obj).getBodyModel();
+        if (body.isJustKnocked()) {
+          applyKnockback(body, body.getKnockingBodyPos(), body.getKnockbackForce());
+          body.setJustKnocked(false);
         }
-        obj.update(delta);
       }
+      obj.update(delta);
     }
 
     // Try to collide with the boss again (if player is not invincible)
@@ -145,23 +210,54 @@ public class PhysicsEngine implements ContactListener {
     }
   }
 
-  /** Removes any models currently marked for removal */
-  public void removeMarked() {
-    // Garbage collect the deleted objects.
-    // Note how we use the linked list nodes to delete O(1) in place.
-    // This is O(n) without copying.
-    Iterator<PooledList<Model>.Entry> iterator = objects.entryIterator();
-    while (iterator.hasNext()) {
-      PooledList<Model>.Entry entry = iterator.next();
-      Model obj = entry.getValue();
-      if (obj.isRemoved()) {
-        obj.deactivatePhysics(world);
-        if (obj instanceof EnemyModel) {
-          enemies.removeValue((EnemyModel) obj, true);
-        }
-        entry.remove();
+  /**
+   * Records the position of every object at the start of a simulation step, so they can be drawn
+   * between steps. This should be called before any controller moves an object in the step.
+   */
+  public void savePreviousPositions() {
+    for (Model obj : objects) {
+      obj.savePreviousPosition();
+    }
+  }
+
+  /**
+   * Removes every model which was marked for removal since the last drain.
+   *
+   * <p>This is called once per {@link #update(float)}, right after the world step, so removal
+   * costs O(removed) rather than a sweep over every object in the world.
+   */
+  private void drainRemovalQueue() {
+    for (int i = 0; i < removalQueue.size; i++) {
+      Model obj = removalQueue.get(i);
+      // The flag may have been cleared again after the model registered
+      if (!obj.isRemoved()) continue;
+      PooledList<Model>.Entry entry = entries.remove(obj);
+      if (entry == null) continue;
+
+      if (bulletEngine != null && obj instanceof BulletModel) {
+        bulletEngine.remove((BulletModel) obj);
+      }
+      obj.deactivatePhysics(world);
+      obj.setRemovalQueue(null);
+      if (obj instanceof EnemyModel) {
+        enemies.removeValue((EnemyModel) obj, true);
       }
+      entry.remove();
     }
+    removalQueue.clear();
+  }
+
+  /**
+   * Returns if a model is currently part of this physics world.
+   *
+   * <p>A model marked for removal stays in the world until the next {@link #update(float)}, so this
+   * is how owners of pooled models know when it is safe to reuse them.
+   *
+   * @param obj the model to check
+   * @return true if the model is in the world
+   */
+  public boolean contains(Model obj) {
+    return entries.containsKey(obj);
   }
 
   /**
@@ -171,7 +267,21 @@ public class PhysicsEngine implements ContactListener {
    */
   public void addObject(Model obj) {
     assert inBounds(obj) : "Object is not in bounds";
-    objects.add(obj);
+    // pooled models would otherwise be drawn sliding from where they were last used
+    obj.savePreviousPosition();
+    entries.put(obj, objects.addEntry(obj));
+    obj.setRemovalQueue(removalQueue);
+    if (obj.isRemoved()) removalQueue.add(obj);
+    if (bulletEngine != null) {
+      if (obj instanceof BulletModel && !(obj instanceof PlayerBulletModel)) {
+        bulletEngine.add((BulletModel) obj);
+        return;
+      } else if (obj instanceof PlayerModel) {
+        bulletEngine.setPlayer((PlayerModel) obj);
+      } else if (obj instanceof ObstacleModel) {
+        bulletEngine.addObstacle((ObstacleModel) obj);
+      }
+    }
     obj.activatePhysics(world);
     if (obj instanceof EnemyModel) {
       enemies.add((EnemyModel) obj);
@@ -323,12 +433,16 @@ public class PhysicsEngine implements ContactListener {
     pb.getBody().applyLinearImpulse(knockbackDir.scl(knockbackForce), pb.getCentroid(), false);
   }
 
-  /** Handle collision between player body and bullet */
+  /**
+   * Handle collision between player body and bullet
+   *
+   * <p>The contact is null when the bullet is simulated by the {@link BulletEngine}.
+   */
   public void handleCollision(PlayerBodyModel pb, BulletModel b, Contact c) {
     if (!(b.isUnbreakable())) {
       b.markRemoved(true);
       if (pb.isInvincible()) {
-        c.setEnabled(false);
+        if (c != null) c.setEnabled(false);
         return;
       }
     }
@@ -380,7 +494,7 @@ public class PhysicsEngine implements ContactListener {
   public void handleCollision(PlayerSpearModel ps, BossModel b) {
     if(!b.isDead() && !hasSpeared){
       hasSpeared = true;
-      soundPlayer.playSoundEffect("enemy-hit");
+      soundPlayer.playSoundEffect("enemy-hit", b.getX(), b.getY());
 
       b.decrementHealth(ps.getDamage());
       ps.getMainBody().setKnockedBack(b.getPosition(), b.getSpearKnockbackForce(), 15);
@@ -392,7 +506,8 @@ public class PhysicsEngine implements ContactListener {
 
   /** Handle collision between player bullet and boss */
   public void handleCollision(PlayerBulletModel pb, BossModel b) {
-    soundPlayer.playSoundEffect("enemy-hit");
+    // Bullets can hit bosses well off screen, which should sound distant or not at all
+    soundPlayer.playSoundEffect("enemy-hit", b.getX(), b.getY());
     b.decrementHealth(pb.getDamage());
     pb.markRemoved(true);
   }
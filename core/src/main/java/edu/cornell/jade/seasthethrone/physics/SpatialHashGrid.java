@@ -0,0 +1,322 @@
+package edu.cornell.jade.seasthethrone.physics;
+
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+
+/**
+ * A uniform grid spatial hash over circles.
+ *
+ * <p>The grid is meant to be rebuilt every tick: call {@link #clear()}, {@link #add} every item and
+ * then {@link #build()}. Building is a counting sort of the items into hash buckets, so it does not
+ * allocate once the internal arrays have grown to the peak item count.
+ *
+ * <p>Queries write the indices of the matching items (in the order they were added) into an {@link
+ * IntArray}, which can be turned back into items with {@link #get(int)}. Query cost depends on how
+ * many items are near the query area, not on the total number of items in the grid.
+ *
+ * @param <T> the type of item stored in the grid
+ */
+public class SpatialHashGrid<T> {
+  /** Multiplier used to hash the x coordinate of a cell */
+  private static final int HASH_X = 73856093;
+
+  /** Multiplier used to hash the y coordinate of a cell */
+  private static final int HASH_Y = 19349663;
+
+  /** The width and height of a cell in world units */
+  private final float cellSize;
+
+  /** Bit mask turning a hash into a bucket index */
+  private final int tableMask;
+
+  /** The items in the grid, in insertion order */
+  private Object[] items;
+
+  /** The x coordinate of every item */
+  private float[] xs;
+
+  /** The y coordinate of every item */
+  private float[] ys;
+
+  /** The radius of every item */
+  private float[] radii;
+
+  /** The bucket of every item */
+  private int[] itemBucket;
+
+  /** Item indices sorted by bucket */
+  private int[] sorted;
+
+  /** Start of every bucket in {@link #sorted}, with one extra entry for the end */
+  private final int[] bucketStart;
+
+  /** Bounding box of the item centers in every bucket, as (minX, minY, maxX, maxY) */
+  private final float[] bucketBounds;
+
+  /** Buckets which hold at least one item */
+  private final IntArray occupied;
+
+  /** Stamp used to visit every bucket at most once per query */
+  private final int[] bucketStamp;
+
+  /** The current query stamp */
+  private int stamp;
+
+  /** The number of items in the grid */
+  private int size;
+
+  /** The largest radius of any item, used to widen queries */
+  private float maxRadius;
+
+  /**
+   * Constructs an empty grid.
+   *
+   * @param cellSize the width and height of a cell in world units
+   * @param buckets the number of hash buckets, rounded up to a power of two
+   */
+  public SpatialHashGrid(float cellSize, int buckets) {
+    this.cellSize = cellSize;
+    int tableSize = Integer.highestOneBit(Math.max(1, buckets - 1)) << 1;
+    this.tableMask = tableSize - 1;
+    this.bucketStart = new int[tableSize + 1];
+    this.bucketBounds = new float[tableSize * 4];
+    this.bucketStamp = new int[tableSize];
+    this.occupied = new IntArray();
+    int capacity = 64;
+    items = new Object[capacity];
+    xs = new float[capacity];
+    ys = new float[capacity];
+    radii = new float[capacity];
+    itemBucket = new int[capacity];
+    sorted = new int[capacity];
+  }
+
+  /** Removes every item from the grid. */
+  public void clear() {
+    Arrays.fill(items, 0, size, null);
+    size = 0;
+    maxRadius = 0;
+  }
+
+  /**
+   * Adds a circle to the grid. The item is not visible to queries until {@link #build()} is called.
+   *
+   * @param item the item to store
+   * @param x x coordinate of the circle center
+   * @param y y coordinate of the circle center
+   * @param radius radius of the circle
+   * @return the index of the item
+   */
+  public int add(T item, float x, float y, float radius) {
+    if (size == items.length) grow(size * 2);
+    int i = size++;
+    items[i] = item;
+    xs[i] = x;
+    ys[i] = y;
+    radii[i] = radius;
+    maxRadius = Math.max(maxRadius, radius);
+    return i;
+  }
+
+  /** Sorts the added items into their buckets so they can be queried. */
+  public void build() {
+    Arrays.fill(bucketStart, 0);
+    occupied.clear();
+
+    // Count the items in every bucket
+    for (int i = 0; i < size; i++) {
+      int b = bucket(cell(xs[i]), cell(ys[i]));
+      itemBucket[i] = b;
+      if (bucketStart[b]++ == 0) {
+        occupied.add(b);
+        bucketBounds[4 * b] = xs[i];
+        bucketBounds[4 * b + 1] = ys[i];
+        bucketBounds[4 * b + 2] = xs[i];
+        bucketBounds[4 * b + 3] = ys[i];
+      } else {
+        bucketBounds[4 * b] = Math.min(bucketBounds[4 * b], xs[i]);
+        bucketBounds[4 * b + 1] = Math.min(bucketBounds[4 * b + 1], ys[i]);
+        bucketBounds[4 * b + 2] = Math.max(bucketBounds[4 * b + 2], xs[i]);
+        bucketBounds[4 * b + 3] = Math.max(bucketBounds[4 * b + 3], ys[i]);
+      }
+    }
+
+    // Turn the counts into end offsets, then fill backwards so they become start offsets
+    int total = 0;
+    for (int b = 0; b <= tableMask; b++) {
+      total += bucketStart[b];
+      bucketStart[b] = total;
+    }
+    bucketStart[tableMask + 1] = total;
+    for (int i = size - 1; i >= 0; i--) {
+      sorted[--bucketStart[itemBucket[i]]] = i;
+    }
+  }
+
+  /** Returns the number of items in the grid */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns the item at a given index.
+   *
+   * @param index the index returned by {@link #add} or a query
+   * @return the item at that index
+   */
+  @SuppressWarnings("unchecked")
+  public T get(int index) {
+    return (T) items[index];
+  }
+
+  /** Returns the x coordinate an item had when it was added */
+  public float getX(int index) {
+    return xs[index];
+  }
+
+  /** Returns the y coordinate an item had when it was added */
+  public float getY(int index) {
+    return ys[index];
+  }
+
+  /**
+   * Finds every item whose circle overlaps a given circle.
+   *
+   * @param x x coordinate of the query center
+   * @param y y coordinate of the query center
+   * @param r radius of the query
+   * @param out array the indices of the matching items are added to
+   */
+  public void queryCircle(float x, float y, float r, IntArray out) {
+    float reach = r + maxRadius;
+    if (!beginQuery(x - reach, y - reach, x + reach, y + reach)) {
+      for (int i = 0; i < occupied.size; i++) {
+        queryCircleBucket(occupied.get(i), x, y, r, out);
+      }
+      return;
+    }
+    int cx0 = cell(x - reach), cx1 = cell(x + reach);
+    int cy0 = cell(y - reach), cy1 = cell(y + reach);
+    for (int cx = cx0; cx <= cx1; cx++) {
+      for (int cy = cy0; cy <= cy1; cy++) {
+        int b = bucket(cx, cy);
+        if (bucketStamp[b] == stamp) continue;
+        bucketStamp[b] = stamp;
+        queryCircleBucket(b, x, y, r, out);
+      }
+    }
+  }
+
+  /**
+   * Finds every item whose circle overlaps a given axis-aligned box.
+   *
+   * @param minX left edge of the box
+   * @param minY bottom edge of the box
+   * @param maxX right edge of the box
+   * @param maxY top edge of the box
+   * @param out array the indices of the matching items are added to
+   */
+  public void queryAABB(float minX, float minY, float maxX, float maxY, IntArray out) {
+    if (!beginQuery(minX - maxRadius, minY - maxRadius, maxX + maxRadius, maxY + maxRadius)) {
+      for (int i = 0; i < occupied.size; i++) {
+        queryAABBBucket(occupied.get(i), minX, minY, maxX, maxY, out);
+      }
+      return;
+    }
+    int cx0 = cell(minX - maxRadius), cx1 = cell(maxX + maxRadius);
+    int cy0 = cell(minY - maxRadius), cy1 = cell(maxY + maxRadius);
+    for (int cx = cx0; cx <= cx1; cx++) {
+      for (int cy = cy0; cy <= cy1; cy++) {
+        int b = bucket(cx, cy);
+        if (bucketStamp[b] == stamp) continue;
+        bucketStamp[b] = stamp;
+        queryAABBBucket(b, minX, minY, maxX, maxY, out);
+      }
+    }
+  }
+
+  /**
+   * Finds every item whose center is farther than a given distance from a point. Buckets which lie
+   * entirely within the distance are skipped without looking at their items.
+   *
+   * @param x x coordinate of the point
+   * @param y y coordinate of the point
+   * @param d the distance
+   * @param out array the indices of the matching items are added to
+   */
+  public void queryOutsideCircle(float x, float y, float d, IntArray out) {
+    float d2 = d * d;
+    for (int i = 0; i < occupied.size; i++) {
+      int b = occupied.get(i);
+      float fx = Math.max(Math.abs(bucketBounds[4 * b] - x), Math.abs(bucketBounds[4 * b + 2] - x));
+      float fy = Math.max(Math.abs(bucketBounds[4 * b + 1] - y), Math.abs(bucketBounds[4 * b + 3] - y));
+      if (fx * fx + fy * fy <= d2) continue;
+      for (int j = bucketStart[b]; j < bucketStart[b + 1]; j++) {
+        int k = sorted[j];
+        float dx = xs[k] - x;
+        float dy = ys[k] - y;
+        if (dx * dx + dy * dy > d2) out.add(k);
+      }
+    }
+  }
+
+  /**
+   * Starts a new query over a rectangle of cells.
+   *
+   * @return false if the rectangle covers more cells than there are occupied buckets, in which
+   *     case the query should just visit every occupied bucket
+   */
+  private boolean beginQuery(float minX, float minY, float maxX, float maxY) {
+    long cells = (long) (cell(maxX) - cell(minX) + 1) * (cell(maxY) - cell(minY) + 1);
+    if (cells > occupied.size) return false;
+    if (++stamp == 0) {
+      Arrays.fill(bucketStamp, 0);
+      stamp = 1;
+    }
+    return true;
+  }
+
+  private void queryCircleBucket(int b, float x, float y, float r, IntArray out) {
+    for (int j = bucketStart[b]; j < bucketStart[b + 1]; j++) {
+      int k = sorted[j];
+      float dx = xs[k] - x;
+      float dy = ys[k] - y;
+      float rr = r + radii[k];
+      if (dx * dx + dy * dy < rr * rr) out.add(k);
+    }
+  }
+
+  private void queryAABBBucket(int b, float minX, float minY, float maxX, float maxY, IntArray out) {
+    for (int j = bucketStart[b]; j < bucketStart[b + 1]; j++) {
+      int k = sorted[j];
+      float dx = xs[k] - Math.max(minX, Math.min(xs[k], maxX));
+      float dy = ys[k] - Math.max(minY, Math.min(ys[k], maxY));
+      if (dx * dx + dy * dy < radii[k] * radii[k]) out.add(k);
+    }
+  }
+
+  /** Returns the cell coordinate containing a world coordinate */
+  private int cell(float v) {
+    return (int) Math.floor(v / cellSize);
+  }
+
+  /** Returns the bucket a cell hashes into */
+  private int bucket(int cx, int cy) {
+    return ((cx * HASH_X) ^ (cy * HASH_Y)) & tableMask;
+  }
+
+  /**
+   * Resizes all of the per-item arrays.
+   *
+   * @param capacity the new number of items
+   */
+  private void grow(int capacity) {
+    items = Arrays.copyOf(items, capacity);
+    xs = Arrays.copyOf(xs, capacity);
+    ys = Arrays.copyOf(ys, capacity);
+    radii = Arrays.copyOf(radii, capacity);
+    itemBucket = Arrays.copyOf(itemBucket, capacity);
+    sorted = Arrays.copyOf(sorted, capacity);
+  }
+}
@@ -0,0 +1,120 @@
+package edu.cornell.jade.seasthethrone.render;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * The quads of every bullet in a frame, in the vertex layout of a sprite batch.
+ *
+ * <p>Bullets are written straight into one float buffer, rotated to face their velocity without
+ * any trigonometry, so {@link BulletRenderer} can draw all of them with a mesh upload and one draw
+ * call per texture.
+ */
+class BulletBuffer {
+  /** Floats per vertex: x, y, packed color, u and v */
+  static final int VERTEX_SIZE = 5;
+
+  /** Floats per bullet quad */
+  static final int QUAD_SIZE = 4 * VERTEX_SIZE;
+
+  /** The vertices of every quad */
+  final FloatArray vertices;
+
+  /** The texture of each run of quads sharing one */
+  final Array<Texture> textures;
+
+  /** The number of quads written when each run ends */
+  final IntArray runEnds;
+
+  /** Constructs an empty buffer */
+  BulletBuffer() {
+    vertices = new FloatArray();
+    textures = new Array<>();
+    runEnds = new IntArray();
+  }
+
+  /** Removes every quad, keeping the storage */
+  void clear() {
+    vertices.clear();
+    textures.clear();
+    runEnds.clear();
+  }
+
+  /** Returns the number of quads */
+  int size() {
+    return vertices.size / QUAD_SIZE;
+  }
+
+  /**
+   * Adds a bullet, centered on a position and facing along its velocity.
+   *
+   * @param region the frame of the bullet
+   * @param tint the color to tint the bullet
+   * @param x the x coordinate of the center of the bullet
+   * @param y the y coordinate of the center of the bullet
+   * @param vx the x component of the bullet velocity
+   * @param vy the y component of the bullet velocity
+   * @param scale the ratio of a texture pixel to a world unit
+   */
+  void add(TextureRegion region, Color tint, float x, float y, float vx, float vy, float scale) {
+    Texture texture = region.getTexture();
+    int last = textures.size - 1;
+    if (last >= 0 && textures.get(last) == texture) {
+      runEnds.incr(last, 1);
+    } else {
+      textures.add(texture);
+      runEnds.add(size() + 1);
+    }
+
+    // A bullet at rest faces down, as with BulletModel#angle
+    float cos = 0;
+    float sin = -1;
+    float len = (float) Math.sqrt(vx * vx + vy * vy);
+    if (len > 0) {
+      cos = vx / len;
+      sin = vy / len;
+    }
+
+    float hw = region.getRegionWidth() * scale / 2f;
+    float hh = region.getRegionHeight() * scale / 2f;
+    float color = tint.toFloatBits();
+    float u = region.getU();
+    float v = region.getV();
+    float u2 = region.getU2();
+    float v2 = region.getV2();
+
+    float[] items = vertices.ensureCapacity(QUAD_SIZE);
+    int i = vertices.size;
+    // bottom left, top left, top right, bottom right, as a sprite batch lays them out
+    i = vertex(items, i, x, y, -hw, -hh, cos, sin, color, u, v2);
+    i = vertex(items, i, x, y, -hw, hh, cos, sin, color, u, v);
+    i = vertex(items, i, x, y, hw, hh, cos, sin, color, u2, v);
+    vertex(items, i, x, y, hw, -hh, cos, sin, color, u2, v2);
+    vertices.size += QUAD_SIZE;
+  }
+
+  /** Writes a corner rotated about the center of a bullet, returning the next free index */
+  private static int vertex(
+      float[] items,
+      int i,
+      float x,
+      float y,
+      float cx,
+      float cy,
+      float cos,
+      float sin,
+      float color,
+      float u,
+      float v) {
+    items[i] = x + cx * cos - cy * sin;
+    items[i + 1] = y + cx * sin + cy * cos;
+    items[i + 2] = color;
+    items[i + 3] = u;
+    items[i + 4] = v;
+    return i + VERTEX_SIZE;
+  }
+}
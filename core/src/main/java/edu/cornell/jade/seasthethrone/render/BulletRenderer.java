@@ -0,0 +1,96 @@
+package edu.cornell.jade.seasthethrone.render;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * Draws a {@link BulletBuffer} with one mesh upload and one draw call per run of bullets sharing a
+ * texture.
+ *
+ * <p>The mesh and shader are created on first use, so this must only be drawn on the GL thread.
+ */
+class BulletRenderer implements Disposable {
+  /** Most quads one draw can index with 16 bit indices */
+  private static final int MAX_QUADS = 8191;
+
+  /** Mesh the quads are uploaded into, or null before the first draw */
+  private Mesh mesh;
+
+  /** The shader a sprite batch draws with */
+  private ShaderProgram shader;
+
+  /**
+   * Draws every bullet in a buffer. No sprite batch may be drawing meanwhile.
+   *
+   * @param bullets the bullets to draw
+   * @param projection the projection of the world camera
+   * @param blendSrc the source blend function of the sprite batch
+   * @param blendDst the destination blend function of the sprite batch
+   */
+  void draw(BulletBuffer bullets, Matrix4 projection, int blendSrc, int blendDst) {
+    if (bullets.size() == 0) return;
+    if (mesh == null) create();
+
+    Gdx.gl.glEnable(GL20.GL_BLEND);
+    Gdx.gl.glBlendFunc(blendSrc, blendDst);
+    shader.bind();
+    shader.setUniformMatrix("u_projTrans", projection);
+    shader.setUniformi("u_texture", 0);
+
+    float[] vertices = bullets.vertices.items;
+    int start = 0;
+    for (int r = 0; r < bullets.textures.size; r++) {
+      bullets.textures.get(r).bind(0);
+      int end = bullets.runEnds.get(r);
+      // Runs longer than the index buffer are drawn in pieces
+      while (start < end) {
+        int count = Math.min(end - start, MAX_QUADS);
+        mesh.setVertices(
+            vertices, start * BulletBuffer.QUAD_SIZE, count * BulletBuffer.QUAD_SIZE);
+        mesh.render(shader, GL20.GL_TRIANGLES, 0, count * 6);
+        start += count;
+      }
+    }
+  }
+
+  /** Creates the mesh, with the indices of every quad it can hold, and the shader */
+  private void create() {
+    mesh =
+        new Mesh(
+            false,
+            MAX_QUADS * 4,
+            MAX_QUADS * 6,
+            // Two position components, as the buffer writes and a sprite batch uses
+            new VertexAttribute(Usage.Position, 2, ShaderProgram.POSITION_ATTRIBUTE),
+            VertexAttribute.ColorPacked(),
+            VertexAttribute.TexCoords(0));
+    short[] indices = new short[MAX_QUADS * 6];
+    for (int i = 0, v = 0; i < indices.length; i += 6, v += 4) {
+      indices[i] = (short) v;
+      indices[i + 1] = (short) (v + 1);
+      indices[i + 2] = (short) (v + 2);
+      indices[i + 3] = (short) (v + 2);
+      indices[i + 4] = (short) (v + 3);
+      indices[i + 5] = (short) v;
+    }
+    mesh.setIndices(indices);
+    shader = SpriteBatch.createDefaultShader();
+  }
+
+  @Override
+  public void dispose() {
+    if (mesh != null) {
+      mesh.dispose();
+      shader.dispose();
+      mesh = null;
+      shader = null;
+    }
+  }
+}
@@ -0,0 +1,98 @@
+package edu.cornell.jade.seasthethrone.render;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.ObjectFloatMap;
+
+/**
+ * Keeps objects ordered back to front by depth across frames.
+ *
+ * <p>Objects barely move between two frames, so last frame's order is nearly sorted already. Each
+ * frame the order keeps the objects still present, appends new ones and fixes it with an insertion
+ * sort, which takes close to linear time on nearly sorted input. Objects of equal depth keep their
+ * order.
+ *
+ * <p>Each frame, call {@link #begin()}, {@link #add} every object, then {@link #end()}.
+ *
+ * @param <T> the type of object ordered
+ */
+public class DepthOrder<T> {
+  /** The objects back to front, as of the last call to end() */
+  private final Array<T> order;
+
+  /** The depth of every object in the order */
+  private final FloatArray depths;
+
+  /** The depth of every object added this frame */
+  private final ObjectFloatMap<T> added;
+
+  /** Constructs an empty order */
+  public DepthOrder() {
+    order = new Array<>();
+    depths = new FloatArray();
+    added = new ObjectFloatMap<>();
+  }
+
+  /** Starts a frame. Objects not added again before {@link #end()} are dropped. */
+  public void begin() {
+    added.clear();
+  }
+
+  /**
+   * Adds an object to this frame. Objects with a greater depth are drawn first.
+   *
+   * @param object the object
+   * @param depth the depth of the object, its y coordinate for a top down view
+   */
+  public void add(T object, float depth) {
+    added.put(object, depth);
+  }
+
+  /**
+   * Ends a frame and returns the objects added to it, back to front.
+   *
+   * @return the ordered objects, valid until the next call to begin()
+   */
+  public Array<T> end() {
+    // Keep the objects still present, in last frame's order, with their new depths
+    int kept = 0;
+    for (int i = 0; i < order.size; i++) {
+      T object = order.get(i);
+      if (!added.containsKey(object)) continue;
+      float depth = added.remove(object, 0);
+      order.set(kept, object);
+      depths.set(kept, depth);
+      kept++;
+    }
+    order.truncate(kept);
+    depths.truncate(kept);
+
+    // Whatever is left is new this frame
+    for (ObjectFloatMap.Entry<T> e : added) {
+      order.add(e.key);
+      depths.add(e.value);
+    }
+    added.clear();
+
+    sort();
+    return order;
+  }
+
+  /** Insertion sorts the order by decreasing depth */
+  private void sort() {
+    T[] objects = order.items;
+    float[] keys = depths.items;
+    for (int i = 1; i < order.size; i++) {
+      T object = objects[i];
+      float key = keys[i];
+      int j = i - 1;
+      while (j >= 0 && keys[j] < key) {
+        objects[j + 1] = objects[j];
+        keys[j + 1] = keys[j];
+        j--;
+      }
+      objects[j + 1] = object;
+      keys[j + 1] = key;
+    }
+  }
+}
@@ -0,0 +1,179 @@
+package edu.cornell.jade.seasthethrone.render;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntMap;
+
+/**
+ * Generates the fonts of the game once and shares them between every screen and UI element.
+ *
+ * <p>Rasterizing a font with FreeType means parsing the face and drawing every glyph into a new
+ * texture, which is far too slow to do every frame. This cache keeps the face open and generates
+ * the glyphs of each size the first time they are asked for. Fonts of the same size share their
+ * glyph textures, whatever their scale and color, so a UI scaled to the window does not rasterize
+ * the face again on every resize.
+ *
+ * <p>Fonts belong to the cache and must not be disposed by their users. They may only be used on
+ * the GL thread.
+ */
+public class FontCache {
+  /** The face every font of the game is drawn in */
+  private static final String FACE = "Alagard.ttf";
+
+  /** Pixel size the UI fonts are rasterized at before scaling */
+  public static final int DEFAULT_SIZE = 16;
+
+  /** The singleton instance of this cache */
+  private static FontCache instance;
+
+  /** The generator of every font, created with the first font */
+  private FreeTypeFontGenerator generator;
+
+  /** The glyphs of every size generated, keyed by size */
+  private final IntMap<Style> styles;
+
+  /** The glyphs of one size, with a font for every scale and color drawn in them */
+  private static class Style {
+    /** The glyphs and their metrics, unscaled */
+    final FreeTypeFontGenerator.FreeTypeBitmapFontData data;
+
+    /** The fonts sharing the glyphs */
+    final Array<BitmapFont> fonts = new Array<>();
+
+    /** The scale asked for of each font */
+    final FloatArray scales = new FloatArray();
+
+    /** The color asked for of each font */
+    final Array<Color> colors = new Array<>();
+
+    Style(FreeTypeFontGenerator.FreeTypeBitmapFontData data) {
+      this.data = data;
+    }
+  }
+
+  /** Creates an empty cache */
+  private FontCache() {
+    styles = new IntMap<>();
+  }
+
+  /** Returns the singleton font cache */
+  public static FontCache get() {
+    if (instance == null) {
+      instance = new FontCache();
+    }
+    return instance;
+  }
+
+  /**
+   * Disposes every font generated. Fonts handed out before are no longer safe to use. This should
+   * only be called near the end of the application.
+   */
+  public static void dispose() {
+    if (instance != null) {
+      instance.clear();
+      instance = null;
+    }
+  }
+
+  /**
+   * Returns the font of a size, scale and color, generating its glyphs if no font of that size has
+   * been asked for yet. Fonts are positioned at fractions of a pixel, so scaled text does not snap
+   * its glyphs to whole pixels.
+   *
+   * <p>The font is set back to the color asked for every call, since drawing may tint it.
+   *
+   * @param size the pixel size to rasterize the glyphs at
+   * @param scale the scale to draw the glyphs at
+   * @param color the color of the font
+   * @return the font
+   */
+  public BitmapFont getFont(int size, float scale, Color color) {
+    Style style = styles.get(size);
+    if (style == null) {
+      style = new Style(generate(size));
+      styles.put(size, style);
+    }
+
+    for (int i = 0; i < style.fonts.size; i++) {
+      if (style.scales.get(i) == scale && style.colors.get(i).equals(color)) {
+        BitmapFont font = style.fonts.get(i);
+        font.setColor(color);
+        return font;
+      }
+    }
+
+    BitmapFont.BitmapFontData data = copyMetrics(style.data);
+    data.setScale(scale);
+    BitmapFont font = new BitmapFont(data, style.data.regions, false);
+    font.setColor(color);
+    font.setUseIntegerPositions(false);
+    style.fonts.add(font);
+    style.scales.add(scale);
+    style.colors.add(new Color(color));
+    return font;
+  }
+
+  /**
+   * Copies the metrics of generated glyphs, so they can be scaled without affecting other fonts.
+   * The glyphs themselves are shared, as scaling only changes the metrics.
+   */
+  private static BitmapFont.BitmapFontData copyMetrics(BitmapFont.BitmapFontData source) {
+    BitmapFont.BitmapFontData data = new BitmapFont.BitmapFontData();
+    data.imagePaths = source.imagePaths;
+    data.fontFile = source.fontFile;
+    data.flipped = source.flipped;
+    data.padTop = source.padTop;
+    data.padRight = source.padRight;
+    data.padBottom = source.padBottom;
+    data.padLeft = source.padLeft;
+    data.lineHeight = source.lineHeight;
+    data.capHeight = source.capHeight;
+    data.ascent = source.ascent;
+    data.descent = source.descent;
+    data.down = source.down;
+    data.blankLineScale = source.blankLineScale;
+    data.scaleX = source.scaleX;
+    data.scaleY = source.scaleY;
+    data.markupEnabled = source.markupEnabled;
+    data.cursorX = source.cursorX;
+    System.arraycopy(source.glyphs, 0, data.glyphs, 0, source.glyphs.length);
+    data.missingGlyph = source.missingGlyph;
+    data.spaceXadvance = source.spaceXadvance;
+    data.xHeight = source.xHeight;
+    data.breakChars = source.breakChars;
+    data.xChars = source.xChars;
+    data.capChars = source.capChars;
+    return data;
+  }
+
+  /** Rasterizes the glyphs of the face at a size */
+  private FreeTypeFontGenerator.FreeTypeBitmapFontData generate(int size) {
+    if (generator == null) {
+      generator = new FreeTypeFontGenerator(Gdx.files.internal(FACE));
+    }
+    FreeTypeFontGenerator.FreeTypeFontParameter parameter =
+        new FreeTypeFontGenerator.FreeTypeFontParameter();
+    parameter.size = size;
+    return generator.generateData(parameter);
+  }
+
+  /** Disposes every font and the generator */
+  private void clear() {
+    for (Style style : styles.values()) {
+      for (TextureRegion region : style.data.regions) {
+        region.getTexture().dispose();
+      }
+      style.data.dispose();
+    }
+    styles.clear();
+    if (generator != null) {
+      generator.dispose();
+      generator = null;
+    }
+  }
+}
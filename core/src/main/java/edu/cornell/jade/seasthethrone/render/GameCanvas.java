@@ -95,6 +95,9 @@ public class GameCanvas {
   /** Cache object to handle raw textures */
   private TextureRegion holder;
 
+  /** Cache object to lay out text */
+  private GlyphLayout layout;
+
   /**
    * Gets the canvas's sprite batch for lower level usage such as directly setting its matrix
    *
@@ -130,6 +133,7 @@ public class GameCanvas {
 
     // Initialize the cache objects
     holder = new TextureRegion();
+    layout = new GlyphLayout();
     local = new Affine2();
     global = new Matrix4();
     vertex = new Vector2();
@@ -1014,7 +1018,7 @@ public class GameCanvas {
           "GameCanvas", "Cannot draw without active begin()", new IllegalStateException());
       return;
     }
-    GlyphLayout layout = new GlyphLayout(font, text);
+    layout.setText(font, text);
     font.draw(spriteBatch, layout, x, y);
   }
 
@@ -1026,7 +1030,7 @@ public class GameCanvas {
     }
 
     font.setColor(tint);
-    GlyphLayout layout = new GlyphLayout(font, text);
+    layout.setText(font, text);
     font.draw(spriteBatch, layout, x, y);
   }
 
@@ -1045,7 +1049,7 @@ public class GameCanvas {
               "GameCanvas", "Cannot draw without active begin()", new IllegalStateException());
       return;
     }
-    GlyphLayout layout = new GlyphLayout(font, text);
+    layout.setText(font, text);
     if (centered) {
       font.draw(uiBatch, layout, x-layout.width/2, y-layout.height/2);
     } else {
@@ -1067,7 +1071,7 @@ public class GameCanvas {
       return;
     }
 
-    GlyphLayout layout = new GlyphLayout(font, text);
+    layout.setText(font, text);
     float x = (getWidth() - layout.width) / 2.0f;
     float y = (getHeight() + layout.height) / 2.0f;
     font.draw(spriteBatch, layout, x, y + offset);
@@ -1081,7 +1085,7 @@ public class GameCanvas {
     }
 
     font.setColor(tint);
-    GlyphLayout layout = new GlyphLayout(font, text);
+    layout.setText(font, text);
     float x = (getWidth() - layout.width) / 2.0f;
     float y = (getHeight() + layout.height) / 2.0f;
     font.draw(spriteBatch, layout, x, y + offset);
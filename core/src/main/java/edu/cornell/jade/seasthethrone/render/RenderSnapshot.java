@@ -0,0 +1,167 @@
+package edu.cornell.jade.seasthethrone.render;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import edu.cornell.jade.seasthethrone.level.TileIndex;
+
+/**
+ * A record of every sprite drawn in one frame of the game world.
+ *
+ * <p>A snapshot copies the texture, frame region, transform and tint of each draw, and notes where
+ * baked tile layers and the bullets are drawn among them, so it stays valid while the models it
+ * was captured from keep changing. This lets the simulation capture a frame on its own thread while
+ * the GL thread draws the previous one. A snapshot is only written by {@link
+ * RenderingEngine#captureRenderables} and only read by {@link RenderingEngine#drawSnapshot}, and
+ * must not be used by both at once.
+ */
+public class RenderSnapshot {
+  /** Number of floats stored per sprite */
+  private static final int STRIDE = 12;
+
+  /** The texture of every sprite */
+  private final Array<Texture> textures;
+
+  /**
+   * Every sprite's u, v, u2, v2, origin x, origin y, x, y, angle, x scale, y scale and packed
+   * tint, in draw order
+   */
+  private final FloatArray data;
+
+  /** The baked tile layers drawn, in draw order */
+  private final Array<TileIndex> tileLayers;
+
+  /** Number of sprites drawn before each tile layer */
+  private final IntArray tileMarks;
+
+  /** The quads of every bullet */
+  private final BulletBuffer bullets;
+
+  /** Number of sprites drawn before the bullets */
+  private int bulletMark;
+
+  /** Cache region to draw sprites with */
+  private final TextureRegion regionCache;
+
+  /** Cache color to unpack tints into */
+  private final Color tintCache;
+
+  /** Constructs an empty snapshot */
+  public RenderSnapshot() {
+    textures = new Array<>();
+    data = new FloatArray();
+    tileLayers = new Array<>();
+    tileMarks = new IntArray();
+    bullets = new BulletBuffer();
+    regionCache = new TextureRegion();
+    tintCache = new Color();
+  }
+
+  /** Removes every sprite from the snapshot, keeping its storage */
+  public void clear() {
+    textures.clear();
+    data.clear();
+    tileLayers.clear();
+    tileMarks.clear();
+    bullets.clear();
+  }
+
+  /**
+   * Returns the number of sprites in the snapshot
+   *
+   * @return the number of sprites
+   */
+  public int size() {
+    return textures.size;
+  }
+
+  /**
+   * Records a sprite. The arguments are the same as {@link GameCanvas#draw(TextureRegion, Color,
+   * float, float, float, float, float, float, float)}, and are copied.
+   */
+  void add(
+      TextureRegion region,
+      Color tint,
+      float ox,
+      float oy,
+      float x,
+      float y,
+      float angle,
+      float sx,
+      float sy) {
+    textures.add(region.getTexture());
+    float[] items = data.ensureCapacity(STRIDE);
+    int i = data.size;
+    items[i] = region.getU();
+    items[i + 1] = region.getV();
+    items[i + 2] = region.getU2();
+    items[i + 3] = region.getV2();
+    items[i + 4] = ox;
+    items[i + 5] = oy;
+    items[i + 6] = x;
+    items[i + 7] = y;
+    items[i + 8] = angle;
+    items[i + 9] = sx;
+    items[i + 10] = sy;
+    items[i + 11] = tint.toFloatBits();
+    data.size += STRIDE;
+  }
+
+  /**
+   * Records a baked tile layer, to be drawn after the sprites recorded so far. The layer itself is
+   * not copied, as baked tiles never change.
+   */
+  void addTiles(TileIndex tiles) {
+    tileLayers.add(tiles);
+    tileMarks.add(textures.size);
+  }
+
+  /**
+   * Records a bullet. All bullets are drawn together, after the sprites recorded before the first
+   * one.
+   */
+  void addBullet(
+      TextureRegion region, Color tint, float x, float y, float vx, float vy, float scale) {
+    if (bullets.size() == 0) bulletMark = textures.size;
+    bullets.add(region, tint, x, y, vx, vy, scale);
+  }
+
+  /**
+   * Draws every sprite, tile layer and the bullets in the order they were recorded. The canvas must
+   * be in an active <code>begin()</code> pass.
+   *
+   * @param renderer the engine to draw tile layers and bullets with
+   * @param canvas the canvas to draw to
+   */
+  void replay(RenderingEngine renderer, GameCanvas canvas) {
+    float[] items = data.items;
+    int layer = 0;
+    for (int s = 0; s < textures.size; s++) {
+      while (layer < tileLayers.size && tileMarks.get(layer) == s) {
+        renderer.drawTileChunks(tileLayers.get(layer++));
+      }
+      if (bulletMark == s) renderer.drawBulletBuffer(bullets);
+      int i = s * STRIDE;
+      regionCache.setTexture(textures.get(s));
+      regionCache.setRegion(items[i], items[i + 1], items[i + 2], items[i + 3]);
+      Color.abgr8888ToColor(tintCache, items[i + 11]);
+      canvas.draw(
+          regionCache,
+          tintCache,
+          items[i + 4],
+          items[i + 5],
+          items[i + 6],
+          items[i + 7],
+          items[i + 8],
+          items[i + 9],
+          items[i + 10]);
+    }
+    while (layer < tileLayers.size) {
+      renderer.drawTileChunks(tileLayers.get(layer++));
+    }
+    if (bulletMark == textures.size) renderer.drawBulletBuffer(bullets);
+  }
+}
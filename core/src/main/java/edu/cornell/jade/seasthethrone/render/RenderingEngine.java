@@ -2,17 +2,29 @@ package edu.cornell.jade.seasthethrone.render;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.PolygonSpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import edu.cornell.jade.seasthethrone.GameplayController;
 import edu.cornell.jade.seasthethrone.level.BackgroundImage;
+import edu.cornell.jade.seasthethrone.level.TileIndex;
 import edu.cornell.jade.seasthethrone.util.FilmStrip;
 
 public class RenderingEngine {
+  /**
+   * How far past the edges of the camera sprites are still drawn, in world units. This covers the
+   * camera moving between a frame being captured and drawn.
+   */
+  private static final float CULL_MARGIN = 8f;
+
   /** The Renderable objects for rendering */
   private Array<Renderable> renderables;
 
@@ -31,6 +43,21 @@ public class RenderingEngine {
   /** The ratio of a pixel in a texture to a meter in the world */
   private float worldScale;
 
+  /** How far between the last two simulation steps moving renderables are drawn */
+  private float interpolation = 1f;
+
+  /** Draws the bullets of snapshots in bulk */
+  private final BulletRenderer bulletRenderer = new BulletRenderer();
+
+  /** The snapshot draws are recorded into, or null to draw to the canvas */
+  private RenderSnapshot recording;
+
+  /** The part of the world sprites are drawn in, when culling */
+  private final Rectangle cullBounds = new Rectangle();
+
+  /** Whether sprites outside of the cull bounds are skipped */
+  private boolean culling;
+
   /**
    * Creates a new RenderingEngine based on the world width and world height for the camera.
    *
@@ -42,12 +69,7 @@ public class RenderingEngine {
     renderLayers = new Array<>();
     canvas = new GameCanvas();
 
-    /** LOADING IN FONT, might be better to have an AssetDirectory later */
-    FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("Alagard.ttf"));
-    FreeTypeFontGenerator.FreeTypeFontParameter parameter =
-        new FreeTypeFontGenerator.FreeTypeFontParameter();
-    parameter.size = 50; // font size
-    textFont = generator.generateFont(parameter);
+    textFont = FontCache.get().getFont(50, 1, Color.WHITE);
 
     this.viewport = viewport;
     this.worldScale = worldScale;
@@ -64,6 +86,41 @@ public class RenderingEngine {
     }
   }
 
+  /**
+   * Culls sprites to what the camera currently shows, widened by a margin. Sprites are culled from
+   * then on, until the bounds are cleared.
+   */
+  public void updateCullBounds() {
+    Vector3 center = viewport.getCamera().position;
+    float width = viewport.getWorldWidth() + 2 * CULL_MARGIN;
+    float height = viewport.getWorldHeight() + 2 * CULL_MARGIN;
+    cullBounds.set(center.x - width / 2, center.y - height / 2, width, height);
+    culling = true;
+  }
+
+  /** Stops culling sprites, so everything is drawn until the cull bounds are updated again. */
+  public void clearCullBounds() {
+    culling = false;
+  }
+
+  /**
+   * Sets how far between the last two simulation steps moving renderables are drawn.
+   *
+   * @param alpha 0 to draw at the previous step, 1 to draw at the latest step
+   */
+  public void setInterpolation(float alpha) {
+    interpolation = alpha;
+  }
+
+  /**
+   * Returns how far between the last two simulation steps moving renderables are drawn.
+   *
+   * @return 0 to draw at the previous step, 1 to draw at the latest step
+   */
+  public float getInterpolation() {
+    return interpolation;
+  }
+
   /** Disable animation of all renderables in render engine (make them not updateable). */
   public void disableAnimation() {
     for (Renderable r : renderables) {
@@ -92,6 +149,40 @@ public class RenderingEngine {
     canvas.end();
   }
 
+  /**
+   * Records every renderable into a snapshot instead of drawing it. This makes no GL calls, so it
+   * may run off the GL thread as long as nothing else draws through this engine meanwhile.
+   *
+   * <p>Renderables which draw to the canvas directly cannot be captured and must be drawn live.
+   *
+   * @param snapshot the snapshot to overwrite
+   */
+  public void captureRenderables(RenderSnapshot snapshot) {
+    snapshot.clear();
+    recording = snapshot;
+    try {
+      for (Renderable r : renderables) {
+        r.draw(this);
+      }
+    } finally {
+      recording = null;
+    }
+  }
+
+  /**
+   * Draws a snapshot captured by {@link #captureRenderables}, in place of {@link
+   * #drawRenderables()}.
+   *
+   * @param snapshot the snapshot to draw
+   */
+  public void drawSnapshot(RenderSnapshot snapshot) {
+    canvas.clear();
+    canvas.begin();
+    canvas.getSpriteBatch().setProjectionMatrix(getViewport().getCamera().combined);
+    snapshot.replay(this, canvas);
+    canvas.end();
+  }
+
   public void drawRenderLayers() {
     canvas.clear();
     canvas.begin();
@@ -138,48 +229,150 @@ public class RenderingEngine {
     float ox = filmStrip.getRegionWidth() / 2f;
     float oy = filmStrip.getRegionHeight() / 2f;
 
-    canvas.draw(filmStrip, Color.WHITE, oy, ox, x, y, 0, worldScale, worldScale);
+    submit(filmStrip, Color.WHITE, oy, ox, x, y, 0, worldScale, worldScale);
   }
 
   public void draw(FilmStrip filmStrip, float x, float y, Color color, float angle) {
     float ox = filmStrip.getRegionWidth() / 2f;
     float oy = filmStrip.getRegionHeight() / 2f;
 
-    canvas.draw(filmStrip, color, oy, ox, x, y, angle, worldScale, worldScale);
+    submit(filmStrip, color, oy, ox, x, y, angle, worldScale, worldScale);
   }
 
   public void draw(FilmStrip filmStrip, float x, float y, boolean rot, float angle) {
     float ox = filmStrip.getRegionWidth() / 2f;
     float oy = filmStrip.getRegionHeight() / 2f;
 
-    canvas.draw(filmStrip, Color.WHITE, oy, ox, x, y, angle, worldScale, worldScale);
+    submit(filmStrip, Color.WHITE, oy, ox, x, y, angle, worldScale, worldScale);
   }
 
   public void draw(TextureRegion texture, float x, float y) {
     float ox = texture.getRegionWidth() / 2f;
     float oy = texture.getRegionHeight() / 2f;
 
-    canvas.draw(texture, Color.WHITE, ox, oy, x, y, 0, worldScale, worldScale);
+    submit(texture, Color.WHITE, ox, oy, x, y, 0, worldScale, worldScale);
   }
 
   public void draw(FilmStrip filmStrip, float x, float y, float scale) {
     float ox = filmStrip.getRegionWidth() / 2f;
     float oy = filmStrip.getRegionHeight() / 2f;
 
-    canvas.draw(filmStrip, Color.WHITE, oy, ox, x, y, 0, scale, scale);
+    submit(filmStrip, Color.WHITE, oy, ox, x, y, 0, scale, scale);
   }
 
   public void draw(FilmStrip filmStrip, float x, float y, float scale, Color color) {
     float ox = filmStrip.getRegionWidth() / 2f;
     float oy = filmStrip.getRegionHeight() / 2f;
 
-    canvas.draw(filmStrip, color, oy, ox, x, y, 0, scale, scale);
+    submit(filmStrip, color, oy, ox, x, y, 0, scale, scale);
   }
   public void draw(TextureRegion texture, float x, float y, float scalex, float scaley) {
     float ox = texture.getRegionWidth() / 2f;
     float oy = texture.getRegionHeight() / 2f;
 
-    canvas.draw(texture, Color.WHITE, ox, oy, x, y, 0, scalex*worldScale, scaley*worldScale);
+    submit(texture, Color.WHITE, ox, oy, x, y, 0, scalex*worldScale, scaley*worldScale);
+  }
+
+  /**
+   * Draws the baked chunks of a tile layer which the cull bounds overlap, or records where they go
+   * if a snapshot is being captured.
+   *
+   * @param tiles the tiles to draw
+   */
+  public void drawTiles(TileIndex tiles) {
+    if (recording != null) {
+      recording.addTiles(tiles);
+    } else {
+      drawTileChunks(tiles);
+    }
+  }
+
+  /**
+   * Draws the baked chunks of a tile layer in the middle of a sprite batch pass. The batch is
+   * flushed first, so the chunks keep their place in the draw order.
+   */
+  void drawTileChunks(TileIndex tiles) {
+    SpriteCache cache = tiles.getCache();
+    if (cache == null) return;
+
+    PolygonSpriteBatch batch = canvas.getSpriteBatch();
+    batch.end();
+    Gdx.gl.glEnable(GL20.GL_BLEND);
+    Gdx.gl.glBlendFunc(batch.getBlendSrcFunc(), batch.getBlendDstFunc());
+    cache.setProjectionMatrix(batch.getProjectionMatrix());
+    cache.begin();
+    tiles.drawChunks(culling ? cullBounds : null);
+    cache.end();
+    batch.begin();
+  }
+
+  /**
+   * Draws a bullet centered on a position and facing along its velocity. While a snapshot is being
+   * captured, bullets are written into one vertex buffer and drawn together with the first one,
+   * so every bullet should be drawn in one pass.
+   *
+   * @param region the frame of the bullet
+   * @param tint the color to tint the bullet
+   * @param x the x coordinate of the center of the bullet
+   * @param y the y coordinate of the center of the bullet
+   * @param vx the x component of the bullet velocity
+   * @param vy the y component of the bullet velocity
+   */
+  public void drawBullet(TextureRegion region, Color tint, float x, float y, float vx, float vy) {
+    if (isCulled(region, x, y, worldScale, worldScale)) return;
+    if (recording != null) {
+      recording.addBullet(region, tint, x, y, vx, vy, worldScale);
+    } else {
+      float ox = region.getRegionWidth() / 2f;
+      float oy = region.getRegionHeight() / 2f;
+      float angle = vx == 0 && vy == 0 ? -MathUtils.HALF_PI : MathUtils.atan2(vy, vx);
+      canvas.draw(region, tint, ox, oy, x, y, angle, worldScale, worldScale);
+    }
+  }
+
+  /**
+   * Draws a snapshot's bullets in the middle of a sprite batch pass. The batch is flushed first, so
+   * the bullets keep their place in the draw order.
+   */
+  void drawBulletBuffer(BulletBuffer bullets) {
+    if (bullets.size() == 0) return;
+
+    PolygonSpriteBatch batch = canvas.getSpriteBatch();
+    batch.end();
+    bulletRenderer.draw(
+        bullets, batch.getProjectionMatrix(), batch.getBlendSrcFunc(), batch.getBlendDstFunc());
+    batch.begin();
+  }
+
+  /** Draws a sprite to the canvas, or records it if a snapshot is being captured */
+  private void submit(
+      TextureRegion region,
+      Color tint,
+      float ox,
+      float oy,
+      float x,
+      float y,
+      float angle,
+      float sx,
+      float sy) {
+    if (isCulled(region, x, y, sx, sy)) return;
+    if (recording != null) {
+      recording.add(region, tint, ox, oy, x, y, angle, sx, sy);
+    } else {
+      canvas.draw(region, tint, ox, oy, x, y, angle, sx, sy);
+    }
+  }
+
+  /** Returns whether a sprite lies wholly outside of the cull bounds */
+  private boolean isCulled(TextureRegion region, float x, float y, float sx, float sy) {
+    if (!culling) return false;
+    // The farthest any corner can be from the origin, however the sprite is rotated
+    float reach =
+        (region.getRegionWidth() + region.getRegionHeight()) * Math.max(Math.abs(sx), Math.abs(sy));
+    return x + reach < cullBounds.x
+        || x - reach > cullBounds.x + cullBounds.width
+        || y + reach < cullBounds.y
+        || y - reach > cullBounds.y + cullBounds.height;
   }
 
   public void clear() {
@@ -195,4 +388,9 @@ public class RenderingEngine {
   public String toString() {
     return "RenderingEngine [renderables=" + renderables + "]";
   }
+
+  /** Frees the GL resources of this engine. It must not be drawn with afterwards. */
+  public void dispose() {
+    bulletRenderer.dispose();
+  }
 }
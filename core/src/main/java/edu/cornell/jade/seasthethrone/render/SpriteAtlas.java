@@ -0,0 +1,173 @@
+package edu.cornell.jade.seasthethrone.render;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * Packs the images of a scene into a few large textures as they are first loaded.
+ *
+ * <p>Every change of texture between two sprites flushes the sprite batch, so a scene which draws
+ * from one texture per animation costs a draw call per switch. Images loaded through an atlas share
+ * pages instead, and sprites drawn from the same page batch together.
+ *
+ * <p>Regions stay valid as more images are packed, since a page keeps its texture and each new
+ * image is copied into it. Images too large for a page get a texture of their own.
+ *
+ * <p>Pages only exist on the GPU. Images are packed onto shelves, rows as tall as their tallest
+ * image, so placing one needs no copy of the page's pixels in memory.
+ */
+public class SpriteAtlas implements Disposable {
+  /** Width of a page in pixels, enough for the widest boss sheet */
+  private static final int PAGE_WIDTH = 4096;
+
+  /** Height of a page in pixels */
+  private static final int PAGE_HEIGHT = 2048;
+
+  /** Filter of every page, matching the default of a loaded texture */
+  private static final Texture.TextureFilter FILTER = Texture.TextureFilter.Nearest;
+
+  /** Transparent pixels between packed images, so filtering never samples a neighbour */
+  private static final int PADDING = 2;
+
+  /** A texture images are packed into, filled shelf by shelf from the top */
+  private static class Page {
+    /** The texture holding the packed images */
+    final Texture texture;
+
+    /** Top of the open shelf */
+    int shelfY;
+
+    /** Height of the open shelf, that of its tallest image */
+    int shelfHeight;
+
+    /** Left of the free space on the open shelf */
+    int shelfX;
+
+    Page() {
+      texture = new Texture(PAGE_WIDTH, PAGE_HEIGHT, Pixmap.Format.RGBA8888);
+      texture.setFilter(FILTER, FILTER);
+    }
+
+    /**
+     * Reserves space for an image, with padding around it, starting a new shelf if the open one is
+     * full. Returns the x and y of the image, or null if the page has no room.
+     */
+    int[] place(int width, int height) {
+      int w = width + PADDING;
+      int h = height + PADDING;
+      if (shelfX + w > PAGE_WIDTH - PADDING) {
+        shelfY += shelfHeight;
+        shelfX = 0;
+        shelfHeight = 0;
+      }
+      if (shelfY + Math.max(shelfHeight, h) > PAGE_HEIGHT - PADDING) return null;
+
+      int[] at = {shelfX + PADDING, shelfY + PADDING};
+      shelfX += w;
+      shelfHeight = Math.max(shelfHeight, h);
+      return at;
+    }
+  }
+
+  /** Pages images are packed into, in the order they were created */
+  private final Array<Page> pages;
+
+  /** The region of every image loaded, by file name */
+  private final ObjectMap<String, TextureRegion> regions;
+
+  /** Textures of images too large for a page */
+  private final Array<Texture> oversized;
+
+  /** Constructs an empty atlas */
+  public SpriteAtlas() {
+    pages = new Array<>();
+    regions = new ObjectMap<>();
+    oversized = new Array<>();
+  }
+
+  /**
+   * Returns the region of an image, packing it into a page the first time it is asked for. This
+   * must run on the GL thread.
+   *
+   * @param fileName the internal path of the image
+   * @return the region of the image
+   */
+  public TextureRegion get(String fileName) {
+    TextureRegion region = regions.get(fileName);
+    if (region != null) return region;
+
+    Pixmap pixmap = new Pixmap(Gdx.files.internal(fileName));
+    if (pixmap.getWidth() + 2 * PADDING > PAGE_WIDTH
+        || pixmap.getHeight() + 2 * PADDING > PAGE_HEIGHT) {
+      Texture texture = new Texture(pixmap);
+      oversized.add(texture);
+      region = new TextureRegion(texture);
+    } else {
+      region = pack(pixmap);
+    }
+    pixmap.dispose();
+    regions.put(fileName, region);
+    return region;
+  }
+
+  /** Packs an image into the first page with room, uploading it, and returns its region */
+  private TextureRegion pack(Pixmap pixmap) {
+    int width = pixmap.getWidth();
+    int height = pixmap.getHeight();
+    for (Page page : pages) {
+      int[] at = page.place(width, height);
+      if (at != null) return upload(page, at, pixmap);
+    }
+    Page page = new Page();
+    pages.add(page);
+    return upload(page, page.place(width, height), pixmap);
+  }
+
+  /** Copies an image into a page at a place reserved for it, returning its region */
+  private TextureRegion upload(Page page, int[] at, Pixmap pixmap) {
+    upload(page.texture, at[0], at[1], pixmap);
+    return new TextureRegion(page.texture, at[0], at[1], pixmap.getWidth(), pixmap.getHeight());
+  }
+
+  /** Copies an image into part of a page texture */
+  private void upload(Texture texture, int x, int y, Pixmap pixmap) {
+    Pixmap converted = pixmap;
+    if (pixmap.getFormat() != Pixmap.Format.RGBA8888) {
+      converted = new Pixmap(pixmap.getWidth(), pixmap.getHeight(), Pixmap.Format.RGBA8888);
+      converted.setBlending(Pixmap.Blending.None);
+      converted.drawPixmap(pixmap, 0, 0);
+    }
+    texture.bind();
+    Gdx.gl.glPixelStorei(GL20.GL_UNPACK_ALIGNMENT, 1);
+    Gdx.gl.glTexSubImage2D(
+        GL20.GL_TEXTURE_2D,
+        0,
+        x,
+        y,
+        converted.getWidth(),
+        converted.getHeight(),
+        converted.getGLFormat(),
+        converted.getGLType(),
+        converted.getPixels());
+    if (converted != pixmap) converted.dispose();
+  }
+
+  @Override
+  public void dispose() {
+    for (Page page : pages) {
+      page.texture.dispose();
+    }
+    pages.clear();
+    for (Texture t : oversized) {
+      t.dispose();
+    }
+    oversized.clear();
+    regions.clear();
+  }
+}
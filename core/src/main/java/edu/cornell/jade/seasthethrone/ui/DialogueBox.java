@@ -1,13 +1,11 @@
 package edu.cornell.jade.seasthethrone.ui;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.utils.viewport.Viewport;
+import edu.cornell.jade.seasthethrone.render.FontCache;
 import edu.cornell.jade.seasthethrone.render.Renderable;
 import edu.cornell.jade.seasthethrone.render.RenderingEngine;
 
@@ -108,19 +106,11 @@ public class DialogueBox implements Renderable, Dialogueable {
   private void drawText(RenderingEngine renderer) {
     if (display) {
       // Drawing the main text
-      if (this.menuFont != null) menuFont.dispose();
-      FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("Alagard.ttf"));
-      FreeTypeFontGenerator.FreeTypeFontParameter parameter =
-              new FreeTypeFontGenerator.FreeTypeFontParameter();
-
       // NOTE: this is just a hardcoded magic number to get text scaling right
       float fontScale = (float) renderer.getGameCanvas().getWidth() / 1500;
 
-      menuFont = generator.generateFont(parameter);
-      menuFont.setUseIntegerPositions(false);
-      menuFont.getData().setScale(fontScale*fontSize);
-      menuFont.setColor(Color.BLACK);
-      generator.dispose();
+      menuFont =
+          FontCache.get().getFont(FontCache.DEFAULT_SIZE, fontScale * fontSize, Color.BLACK);
 
       if (!texts.isEmpty()) {
         float ox = x + 0.06f*width;
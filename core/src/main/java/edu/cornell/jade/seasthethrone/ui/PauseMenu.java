@@ -1,14 +1,13 @@
 package edu.cornell.jade.seasthethrone.ui;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.utils.viewport.Viewport;
+import edu.cornell.jade.seasthethrone.render.FontCache;
 import edu.cornell.jade.seasthethrone.render.Renderable;
 import edu.cornell.jade.seasthethrone.render.RenderingEngine;
 
@@ -80,20 +79,8 @@ public class PauseMenu implements Renderable {
     backgroundTextureRegion = new TextureRegion(backgroundTexture);
 
     // Setting up text
-    FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("Alagard.ttf"));
-    FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-
-    menuFont = generator.generateFont(parameter);
-    menuFont.setUseIntegerPositions(false);
-    menuFont.getData().setScale(fontSize);
-    menuFont.setColor(Color.BLACK);
-
-    menuShadowFont = generator.generateFont(parameter);
-    menuShadowFont.setUseIntegerPositions(false);
-    menuShadowFont.getData().setScale(fontSize);
-    menuShadowFont.setColor(Color.WHITE);
-
-    generator.dispose();
+    menuFont = FontCache.get().getFont(FontCache.DEFAULT_SIZE, fontSize, Color.BLACK);
+    menuShadowFont = FontCache.get().getFont(FontCache.DEFAULT_SIZE, fontSize, Color.WHITE);
 
     // Calculating spacings between menu options
     GlyphLayout layout = new GlyphLayout(menuFont, "Sample");
@@ -1,12 +1,10 @@
 package edu.cornell.jade.seasthethrone.ui;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import edu.cornell.jade.seasthethrone.GameplayController;
@@ -14,6 +12,7 @@ import edu.cornell.jade.seasthethrone.InteractableController;
 import edu.cornell.jade.seasthethrone.PlayerController;
 import edu.cornell.jade.seasthethrone.ai.BossController;
 import edu.cornell.jade.seasthethrone.assets.AssetDirectory;
+import edu.cornell.jade.seasthethrone.render.FontCache;
 import edu.cornell.jade.seasthethrone.render.GameCanvas;
 import edu.cornell.jade.seasthethrone.render.RenderingEngine;
 
@@ -42,6 +41,12 @@ public class UIController {
   /** A reference to the current boss that the player is facing */
   BossController boss;
 
+  /**
+   * Death count of the current boss as of the last update, or 0 if there is none. The boss model
+   * belongs to the simulation thread while the UI is drawn, so it is read ahead of time.
+   */
+  private int bossDeathCount;
+
   /** If this controller should draw Game Saved text */
   private boolean drawSave;
 
@@ -59,6 +64,9 @@ public class UIController {
   /** Font for display text */
   private BitmapFont textFont;
 
+  /** Layout of the display text, reused every frame */
+  private final GlyphLayout layout = new GlyphLayout();
+
   private float fontScale;
 
 
@@ -109,16 +117,7 @@ public class UIController {
     uiModel = new UIModel(viewport.getScreenWidth(), viewport.getScreenHeight());
     gameOver = new TextureRegion(new Texture("ui/game_over.png"));
 
-    fontScale = (float) canvas.getHeight() / 275;
-    FreeTypeFontGenerator generator =
-            new FreeTypeFontGenerator(Gdx.files.internal("Alagard.ttf"));
-    FreeTypeFontGenerator.FreeTypeFontParameter parameter =
-            new FreeTypeFontGenerator.FreeTypeFontParameter();
-    textFont = generator.generateFont(parameter);
-    textFont.setUseIntegerPositions(false);
-    textFont.getData().setScale(fontScale);
-    textFont.setColor(Color.WHITE);
-    generator.dispose();
+    resizeFont();
 
 
   }
@@ -157,11 +156,7 @@ public class UIController {
   public void drawUI() {
     canvas.beginUI();
     canvas.getUiBatch().setProjectionMatrix(viewport.getCamera().combined);
-    if (boss != null) {
-      uiModel.draw(render, boss.getBoss().getDeathCount());
-    } else {
-      uiModel.draw(render, 0);
-    }
+    uiModel.draw(render, bossDeathCount);
 
     if (drawSave) {
       String message = "Game Saved!";
@@ -194,6 +189,7 @@ public class UIController {
     }
     // update boss hp
     uiModel.update(boss);
+    bossDeathCount = boss != null ? boss.getBoss().getDeathCount() : 0;
   }
 
   public void drawGameOver() {
@@ -210,9 +206,8 @@ public class UIController {
 
     // draw text
     String text = "Try again? (Interact)";
-    textFont.dispose();
     resizeFont();
-    GlyphLayout layout = new GlyphLayout(textFont, text);
+    layout.setText(textFont, text);
     ox = canvas.getWidth()/2f - layout.width / 2f;
     oy = 0.25f* canvas.getHeight();
     canvas.drawTextUI(text, textFont, ox,  oy, false);
@@ -222,17 +217,7 @@ public class UIController {
 
   private void resizeFont() {
     fontScale = (float) canvas.getHeight() / 275;
-
-    FreeTypeFontGenerator generator =
-            new FreeTypeFontGenerator(Gdx.files.internal("Alagard.ttf"));
-    FreeTypeFontGenerator.FreeTypeFontParameter parameter =
-            new FreeTypeFontGenerator.FreeTypeFontParameter();
-
-    textFont = generator.generateFont(parameter);
-    textFont.setUseIntegerPositions(false);
-    textFont.getData().setScale(fontScale);
-    textFont.setColor(Color.WHITE);
-    generator.dispose();
+    textFont = FontCache.get().getFont(FontCache.DEFAULT_SIZE, fontScale, Color.WHITE);
   }
 
   public void setDrawSave(boolean draw) {
@@ -49,6 +49,12 @@ public class FilmStrip extends TextureRegion {
   /** The active animation frame */
   private int frame;
 
+  /** The x coordinate of the top left of the frames in the texture, in pixels */
+  private int sheetX;
+
+  /** The y coordinate of the top left of the frames in the texture, in pixels */
+  private int sheetY;
+
   /**
    * Creates a new filmstrip from the given texture.
    *
@@ -72,18 +78,60 @@ public class FilmStrip extends TextureRegion {
    * @param size The number of frames in the filmstrip
    */
   public FilmStrip(Texture texture, int rows, int cols, int size) {
-    super(texture);
+    this(new TextureRegion(texture), rows, cols, size);
+  }
+
+  /**
+   * Creates a new filmstrip from the given region of a texture, such as a sprite sheet packed into
+   * an atlas.
+   *
+   * @param sheet The region holding every frame
+   * @param rows The number of rows in the filmstrip
+   * @param cols The number of columns in the filmstrip
+   */
+  public FilmStrip(TextureRegion sheet, int rows, int cols) {
+    this(sheet, rows, cols, rows * cols);
+  }
+
+  /**
+   * Creates a new filmstrip from the given region of a texture, such as a sprite sheet packed into
+   * an atlas.
+   *
+   * <p>The parameter size is to indicate that there are unused frames in the filmstrip. The value
+   * size must be less than or equal to rows*cols, or this constructor will raise an error.
+   *
+   * @param sheet The region holding every frame
+   * @param rows The number of rows in the filmstrip
+   * @param cols The number of columns in the filmstrip
+   * @param size The number of frames in the filmstrip
+   */
+  public FilmStrip(TextureRegion sheet, int rows, int cols, int size) {
+    super(sheet);
     if (size > rows * cols) {
       Gdx.app.error("FilmStrip", "Invalid strip size", new IllegalArgumentException());
       return;
     }
     this.cols = cols;
     this.size = size;
-    rwidth = texture.getWidth() / cols;
-    rheight = texture.getHeight() / rows;
+    sheetX = sheet.getRegionX();
+    sheetY = sheet.getRegionY();
+    rwidth = sheet.getRegionWidth() / cols;
+    rheight = sheet.getRegionHeight() / rows;
     setFrame(0);
   }
 
+  /**
+   * Switches to another sprite sheet laid out like this one, keeping the active frame.
+   *
+   * @param sheet The region holding every frame of the new sheet
+   */
+  public void setSheet(TextureRegion sheet) {
+    setTexture(sheet.getTexture());
+    sheetX = sheet.getRegionX();
+    sheetY = sheet.getRegionY();
+    setFrame(frame);
+  }
+
   /**
    * Returns the number of frames in this filmstrip.
    *
@@ -118,8 +166,8 @@ public class FilmStrip extends TextureRegion {
       return;
     }
     this.frame = frame;
-    int x = (frame % cols) * rwidth;
-    int y = (frame / cols) * rheight;
+    int x = sheetX + (frame % cols) * rwidth;
+    int y = sheetY + (frame / cols) * rheight;
     setRegion(x, y, rwidth, rheight);
   }
 }
@@ -235,9 +235,21 @@ public class PooledList<E> extends AbstractSequentialList<E> implements Iterable
    * @return whether the addition succeeeded
    */
   public boolean add(E e) {
+    return addEntry(e) != null;
+  }
+
+  /**
+   * Adds an element to the end of the list, returning its node
+   *
+   * <p>The node can be kept to later remove the element in O(1) with {@link Entry#remove()}.
+   *
+   * @param e the element to add
+   * @return the node holding the element, or null if the addition failed
+   */
+  public Entry addEntry(E e) {
     Entry entry = memory.obtain();
     if (entry == null) {
-      return false;
+      return null;
     }
     entry.value = e;
     entry.prev = tail;
@@ -248,7 +260,7 @@ public class PooledList<E> extends AbstractSequentialList<E> implements Iterable
     }
     tail = entry;
     size++;
-    return true;
+    return entry;
   }
 
   /**
@@ -0,0 +1,36 @@
+package edu.cornell.jade.seasthethrone.util;
+
+import java.util.Random;
+
+/**
+ * Creates the random number generators used by game logic.
+ *
+ * <p>By default every generator is seeded from the clock. Once a seed is set, generators are
+ * seeded from it in creation order, so a run which creates the same objects in the same order
+ * makes the same random choices.
+ */
+public final class SeededRandom {
+  /** The seed of the next generator, or null if generators are unseeded */
+  private static Long nextSeed;
+
+  private SeededRandom() {}
+
+  /**
+   * Makes all generators created from now on deterministic.
+   *
+   * @param seed the seed of the first generator
+   */
+  public static void setSeed(long seed) {
+    nextSeed = seed;
+  }
+
+  /**
+   * Returns a new random number generator.
+   *
+   * @return a generator seeded from the current seed, or from the clock if none is set
+   */
+  public static Random newRandom() {
+    if (nextSeed == null) return new Random();
+    return new Random(nextSeed++);
+  }
+}
@@ -0,0 +1,27 @@
+package edu.cornell.jade.seasthethrone.util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/** Creates the threads work is handed off to outside of the GL thread. */
+public final class Workers {
+  private Workers() {}
+
+  /**
+   * Returns an executor running tasks one at a time on a thread of its own.
+   *
+   * <p>The thread is a daemon, so it never keeps the game from exiting. Its owner should still shut
+   * the executor down when it is disposed, so the thread does not outlive it.
+   *
+   * @param name the name of the thread
+   * @return the executor
+   */
+  public static ExecutorService newSingleThread(String name) {
+    return Executors.newSingleThreadExecutor(
+        r -> {
+          Thread t = new Thread(r, name);
+          t.setDaemon(true);
+          return t;
+        });
+  }
+}
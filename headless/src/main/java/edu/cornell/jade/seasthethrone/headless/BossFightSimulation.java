@@ -0,0 +1,154 @@
+package edu.cornell.jade.seasthethrone.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import edu.cornell.jade.seasthethrone.GameplayController;
+import edu.cornell.jade.seasthethrone.PlayerController;
+import edu.cornell.jade.seasthethrone.ai.BossController;
+import edu.cornell.jade.seasthethrone.audio.SoundPlayer;
+import edu.cornell.jade.seasthethrone.bpedit.BulletPools;
+import edu.cornell.jade.seasthethrone.gamemodel.BulletModel;
+import edu.cornell.jade.seasthethrone.gamemodel.boss.BossModel;
+import edu.cornell.jade.seasthethrone.gamemodel.player.PlayerBulletModel;
+import edu.cornell.jade.seasthethrone.gamemodel.player.PlayerModel;
+import edu.cornell.jade.seasthethrone.model.Model;
+import edu.cornell.jade.seasthethrone.physics.PhysicsEngine;
+import edu.cornell.jade.seasthethrone.render.SpriteAtlas;
+import edu.cornell.jade.seasthethrone.util.SeededRandom;
+
+/**
+ * Runs a single boss fight with no rendering, as fast as the CPU allows.
+ *
+ * <p>The fight is set up the same way <code>GameplayController.setupGameplay</code> sets up a
+ * boss, in an empty arena, and is stepped at a fixed timestep in the same order as
+ * <code>GameplayController.update</code>: player input, the boss controller, then the physics
+ * engine. All randomness is seeded, so a run with the same seed and input script is repeatable.
+ */
+final class BossFightSimulation extends ApplicationAdapter {
+  /** Width and height of the empty arena */
+  private static final float ARENA_SIZE = 200f;
+
+  /** Distance below the boss the player starts at, inside every boss's agro distance */
+  private static final float PLAYER_DISTANCE = 15f;
+
+  /** The boss name, as it would appear in a level */
+  private final String bossName;
+
+  /** The most ticks to simulate */
+  private final int ticks;
+
+  /** The seed of every random number generator */
+  private final long seed;
+
+  /** Path to the input script, or null for a player standing still */
+  private final String inputPath;
+
+  /**
+   * Constructs a simulation.
+   *
+   * @param bossName the boss name, as it would appear in a level
+   * @param ticks the most ticks to simulate
+   * @param seed the seed of every random number generator
+   * @param inputPath path to the input script, or null for a player standing still
+   */
+  BossFightSimulation(String bossName, int ticks, long seed, String inputPath) {
+    this.bossName = bossName;
+    this.ticks = ticks;
+    this.seed = seed;
+    this.inputPath = inputPath;
+  }
+
+  @Override
+  public void create() {
+    Gdx.gl = Gdx.gl20 = StubGL.create();
+    SeededRandom.setSeed(seed);
+    MathUtils.random.setSeed(seed);
+
+    SoundPlayer soundPlayer = new SoundPlayer();
+    World world = new World(new Vector2(0, 0), false);
+    PhysicsEngine physicsEngine =
+        new PhysicsEngine(
+            new Rectangle(0, 0, ARENA_SIZE, ARENA_SIZE), world, soundPlayer, new BulletPools());
+
+    SpriteAtlas atlas = new SpriteAtlas();
+    float cx = ARENA_SIZE / 2;
+    float cy = ARENA_SIZE / 2;
+    PlayerModel player =
+        GameplayController.createPlayer(cx, cy - PLAYER_DISTANCE, soundPlayer, atlas);
+    PlayerController playerController = new PlayerController(physicsEngine, player, atlas);
+    physicsEngine.addObject(player);
+
+    String assetName = GameplayController.bossAssetName(bossName);
+    JsonValue bossInfo =
+        new JsonReader().parse(Gdx.files.internal("bosses/" + assetName + "/" + assetName + ".json"));
+    var bossBuilder =
+        GameplayController.createBossBuilder(bossName, bossInfo, atlas)
+            .setX(cx)
+            .setY(cy)
+            .setRoomId(0);
+    BossModel boss = bossBuilder.build();
+    BossController bossController =
+        bossBuilder.buildController(
+            boss, player, GameplayController.createFishBulletBuilder(atlas), physicsEngine);
+    physicsEngine.addObject(boss);
+    physicsEngine.getBulletPools().prewarm();
+
+    InputScript input =
+        inputPath == null ? new InputScript() : InputScript.load(Gdx.files.internal(inputPath));
+
+    int tick = 0;
+    int peakBullets = 0;
+    long totalBullets = 0;
+    long elapsed = 0;
+    while (tick < ticks && !bossController.isDead() && !playerController.isDead()) {
+      long start = System.nanoTime();
+      input.apply(tick, playerController, player.getPosition());
+      playerController.update();
+      bossController.update(GameplayController.TIMESTEP);
+      physicsEngine.update(GameplayController.TIMESTEP);
+      elapsed += System.nanoTime() - start;
+
+      // Counting scans every object, which the game never does, so it is not timed
+      int live = countBullets(physicsEngine);
+      peakBullets = Math.max(peakBullets, live);
+      totalBullets += live;
+      tick++;
+    }
+    double seconds = elapsed / 1e9;
+
+    String outcome = "timeout";
+    if (bossController.isDead()) outcome = "boss_dead";
+    else if (playerController.isDead()) outcome = "player_dead";
+    System.out.printf(
+        "boss=%s seed=%d ticks=%d seconds=%.3f ticks_per_sec=%.1f peak_bullets=%d"
+            + " mean_bullets=%.1f boss_health=%d outcome=%s%n",
+        bossName,
+        seed,
+        tick,
+        seconds,
+        tick / Math.max(seconds, 1e-9),
+        peakBullets,
+        tick == 0 ? 0.0 : (double) totalBullets / tick,
+        bossController.getHealth(),
+        outcome);
+
+    Gdx.app.exit();
+  }
+
+  /** Returns the number of live enemy bullets in the physics engine */
+  private static int countBullets(PhysicsEngine physicsEngine) {
+    int count = 0;
+    for (Model obj : physicsEngine.getObjects()) {
+      if (obj instanceof BulletModel && !(obj instanceof PlayerBulletModel) && !obj.isRemoved()) {
+        count++;
+      }
+    }
+    return count;
+  }
+}
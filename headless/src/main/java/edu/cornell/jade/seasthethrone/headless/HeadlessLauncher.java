@@ -0,0 +1,43 @@
+package edu.cornell.jade.seasthethrone.headless;
+
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+
+/**
+ * Launches a boss fight simulation on the headless backend, with no window, audio or GPU.
+ *
+ * <p>Usage: <code>HeadlessLauncher [boss] [--ticks N] [--seed S] [--input script.txt]</code>. The
+ * boss is named as it would be in a level, such as <code>crab</code> or <code>fixed_clam45</code>.
+ * Paths are relative to the assets directory. A single line of results is printed when the fight
+ * ends.
+ */
+public class HeadlessLauncher {
+  /** Ticks simulated by default, five minutes of play */
+  private static final int DEFAULT_TICKS = 60 * 60 * 5;
+
+  public static void main(String[] args) {
+    String boss = "crab";
+    int ticks = DEFAULT_TICKS;
+    long seed = 0;
+    String input = null;
+
+    for (int i = 0; i < args.length; i++) {
+      switch (args[i]) {
+        case "--ticks":
+          ticks = Integer.parseInt(args[++i]);
+          break;
+        case "--seed":
+          seed = Long.parseLong(args[++i]);
+          break;
+        case "--input":
+          input = args[++i];
+          break;
+        default:
+          boss = args[i];
+      }
+    }
+
+    HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+    new HeadlessApplication(new BossFightSimulation(boss, ticks, seed, input), config);
+  }
+}
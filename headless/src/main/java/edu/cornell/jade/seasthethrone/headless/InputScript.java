@@ -0,0 +1,119 @@
+package edu.cornell.jade.seasthethrone.headless;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import edu.cornell.jade.seasthethrone.input.Controllable;
+
+/**
+ * Player input scripted by tick, replayed onto a {@link Controllable}.
+ *
+ * <p>Scripts are text files with one command per line, in tick order:
+ *
+ * <pre>
+ *   # tick command arguments
+ *   0    move  1 0     # hold right until the next move
+ *   30   dash          # press dash once
+ *   45   shoot
+ *   60   aim   0 -1    # point the dash indicator down, relative to the player
+ * </pre>
+ *
+ * Movement is held until it is changed; every other command is a single press on its tick. Scripts
+ * are written by hand, and samples such as <code>scripts/strafe.txt</code> are bundled with this
+ * module.
+ */
+final class InputScript {
+  /** A command applied on a given tick */
+  private static final class Command {
+    final int tick;
+    final String name;
+    final float x;
+    final float y;
+
+    Command(int tick, String name, float x, float y) {
+      this.tick = tick;
+      this.name = name;
+      this.x = x;
+      this.y = y;
+    }
+  }
+
+  /** The commands in tick order */
+  private final Array<Command> commands;
+
+  /** The next command to apply */
+  private int cursor;
+
+  /** Cache vector for aim commands */
+  private final Vector2 aimCache = new Vector2();
+
+  /** Constructs an empty script, where the player stands still */
+  InputScript() {
+    commands = new Array<>();
+  }
+
+  /**
+   * Parses a script file.
+   *
+   * @param file the script to read
+   * @return the parsed script
+   */
+  static InputScript load(FileHandle file) {
+    InputScript script = new InputScript();
+    int lineNumber = 0;
+    int lastTick = 0;
+    for (String line : file.readString().split("\n")) {
+      lineNumber++;
+      int comment = line.indexOf('#');
+      if (comment >= 0) line = line.substring(0, comment);
+      line = line.trim();
+      if (line.isEmpty()) continue;
+
+      String[] parts = line.split("\\s+");
+      try {
+        int tick = Integer.parseInt(parts[0]);
+        if (tick < lastTick) {
+          throw new GdxRuntimeException(file.name() + ":" + lineNumber + ": ticks must not decrease");
+        }
+        lastTick = tick;
+        float x = parts.length > 2 ? Float.parseFloat(parts[2]) : 0;
+        float y = parts.length > 3 ? Float.parseFloat(parts[3]) : 0;
+        script.commands.add(new Command(tick, parts[1], x, y));
+      } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+        throw new GdxRuntimeException(file.name() + ":" + lineNumber + ": malformed command", e);
+      }
+    }
+    return script;
+  }
+
+  /**
+   * Applies every command scheduled for a tick.
+   *
+   * @param tick the current tick
+   * @param target the controllable receiving the input
+   * @param origin the player position, which aim commands are relative to
+   */
+  void apply(int tick, Controllable target, Vector2 origin) {
+    while (cursor < commands.size && commands.get(cursor).tick <= tick) {
+      Command c = commands.get(cursor++);
+      switch (c.name) {
+        case "move":
+          target.moveHorizontal(c.x);
+          target.moveVertical(c.y);
+          break;
+        case "dash":
+          target.pressPrimary();
+          break;
+        case "shoot":
+          target.pressSecondary();
+          break;
+        case "aim":
+          target.updateDirection(aimCache.set(origin).add(c.x, c.y));
+          break;
+        default:
+          throw new GdxRuntimeException("Unknown input command: " + c.name);
+      }
+    }
+  }
+}
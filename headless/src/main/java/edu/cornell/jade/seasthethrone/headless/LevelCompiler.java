@@ -0,0 +1,47 @@
+package edu.cornell.jade.seasthethrone.headless;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import edu.cornell.jade.seasthethrone.level.LevelFile;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+
+/**
+ * Compiles every Tiled level in a directory to the binary form {@link LevelFile} reads.
+ *
+ * <p>Usage: <code>LevelCompiler [directory]</code>, <code>levels</code> by default. Each <code>
+ * name.json</code> holding a Tiled map is written to <code>name.lvl</code> beside it, unless the
+ * compiled form is already newer. Other JSON files are skipped. This needs no backend, so it runs
+ * at build time.
+ */
+public class LevelCompiler {
+  public static void main(String[] args) throws IOException {
+    File dir = new File(args.length > 0 ? args[0] : "levels");
+    File[] files = dir.listFiles((d, name) -> name.endsWith(".json"));
+    if (files == null) {
+      throw new IOException("No level directory at " + dir.getAbsolutePath());
+    }
+
+    JsonReader reader = new JsonReader();
+    int compiled = 0;
+    for (File json : files) {
+      File out = new File(dir, LevelFile.compiledName(json.getName()));
+      if (out.lastModified() > json.lastModified()) continue;
+
+      JsonValue root = reader.parse(new FileHandle(json));
+      // Only Tiled maps are levels; other JSON in the directory is left alone
+      if (root == null || !root.has("layers") || !root.has("tilesets")) continue;
+
+      try (OutputStream stream = new BufferedOutputStream(Files.newOutputStream(out.toPath()))) {
+        LevelFile.write(root, stream);
+      }
+      System.out.println(json.getName() + ": " + json.length() + " -> " + out.length() + " bytes");
+      compiled++;
+    }
+    System.out.println("Compiled " + compiled + " levels");
+  }
+}
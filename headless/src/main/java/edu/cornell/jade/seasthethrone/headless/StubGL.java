@@ -0,0 +1,34 @@
+package edu.cornell.jade.seasthethrone.headless;
+
+import com.badlogic.gdx.graphics.GL20;
+
+import java.lang.reflect.Proxy;
+
+/**
+ * An OpenGL implementation where every call does nothing.
+ *
+ * <p>Installing it as <code>Gdx.gl</code> lets textures be constructed without a GPU: pixmaps are
+ * still decoded from disk, so texture sizes are correct, but nothing is uploaded.
+ */
+public final class StubGL {
+  private StubGL() {}
+
+  /** Returns a {@link GL20} whose methods do nothing and return zero, false or null. */
+  public static GL20 create() {
+    return (GL20)
+        Proxy.newProxyInstance(
+            GL20.class.getClassLoader(),
+            new Class<?>[] {GL20.class},
+            (proxy, method, args) -> defaultValue(method.getReturnType()));
+  }
+
+  /** Returns the value a stubbed method with a given return type returns. */
+  private static Object defaultValue(Class<?> type) {
+    if (type == boolean.class) return false;
+    if (type == int.class) return 0;
+    if (type == float.class) return 0f;
+    if (type == long.class) return 0L;
+    if (type == String.class) return "";
+    return null;
+  }
+}